@@ -0,0 +1,129 @@
+package kit.edu.informatik.bench;
+
+import kit.edu.informatik.model.AIObject;
+import kit.edu.informatik.model.memory.ArenaType;
+import kit.edu.informatik.model.memory.ExecutionMode;
+import kit.edu.informatik.model.memory.InitMode;
+import kit.edu.informatik.model.memory.Memory;
+import kit.edu.informatik.model.memory.MemoryArena;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The class benchmarks initializing arenas in both init modes, once directly on the arena and once by repeatedly
+ * starting and ending games of the same seed, which initializes the memory from a cached template.
+ * An operation is a single initialization, respectively a single started and ended game.
+ *
+ * @author uqtwh
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ArenaBenchmark {
+    private static final int HEAP_SIZE = 1337;
+    private static final int LARGE_SIZE = 1 << 20;
+    private static final int RANDOM_SEED = 1337;
+
+    /**
+     * Initializes an arena for a new game.
+     * @param state the initialized arena
+     */
+    @Benchmark
+    public void initialize(ArenaState state) {
+        state.memoryArena.initialize(state.seed);
+    }
+
+    /**
+     * Starts and ends a game of two AIs.
+     * @param state     the memory of the games
+     * @param blackhole consumes the result of the game
+     */
+    @Benchmark
+    public void startGame(GameState state, Blackhole blackhole) {
+        state.memory.startGame(state.lineup);
+        blackhole.consume(state.memory.endGame());
+    }
+
+    /**
+     * Private helper method, returning the seed of an init mode.
+     * @param initMode the init mode
+     * @return the seed of the init mode
+     */
+    private static int seedOf(InitMode initMode) {
+        return initMode == InitMode.INIT_MODE_RANDOM ? RANDOM_SEED : 0;
+    }
+
+    /**
+     * The class holds the arena initialized by {@link #initialize(ArenaState)}.
+     */
+    @State(Scope.Thread)
+    public static class ArenaState {
+
+        /**
+         * Where the cells of the arena are stored.
+         */
+        @Param({"HEAP", "OFF_HEAP", "LAZY"})
+        public ArenaType arenaType;
+
+        /**
+         * Init mode of the initialization.
+         */
+        @Param({"INIT_MODE_STOP", "INIT_MODE_RANDOM"})
+        public InitMode initMode;
+
+        private MemoryArena memoryArena;
+        private int seed;
+
+        /**
+         * Creates the arena, using a large arena for all types but the heap arena.
+         */
+        @Setup
+        public void setUp() {
+            memoryArena = MemoryArena.create(arenaType == ArenaType.HEAP ? HEAP_SIZE : LARGE_SIZE, arenaType);
+            seed = seedOf(initMode);
+        }
+    }
+
+    /**
+     * The class holds the memory whose games are started by {@link #startGame(GameState, Blackhole)}.
+     */
+    @State(Scope.Thread)
+    public static class GameState {
+
+        /**
+         * Init mode of the games.
+         */
+        @Param({"INIT_MODE_STOP", "INIT_MODE_RANDOM"})
+        public InitMode initMode;
+
+        private Memory memory;
+        private List<AIObject> lineup;
+
+        /**
+         * Creates the memory of the games.
+         */
+        @Setup
+        public void setUp() {
+            memory = Games.createMemory(HEAP_SIZE, 2, ExecutionMode.OBJECT, ArenaType.HEAP);
+            memory.setInitMode(initMode);
+            memory.setSeed(seedOf(initMode));
+            lineup = List.of(Mix.IMP.createAI(0), Mix.DWARF.createAI(1));
+        }
+    }
+}
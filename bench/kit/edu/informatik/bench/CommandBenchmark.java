@@ -0,0 +1,138 @@
+package kit.edu.informatik.bench;
+
+import kit.edu.informatik.commands.AddAICommand;
+import kit.edu.informatik.commands.Arguments;
+import kit.edu.informatik.commands.CommandResult;
+import kit.edu.informatik.commands.CommandResultType;
+import kit.edu.informatik.model.AIObject;
+import kit.edu.informatik.model.memory.ArenaType;
+import kit.edu.informatik.model.memory.ExecutionMode;
+import kit.edu.informatik.model.memory.Memory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The class benchmarks the hot paths of the command line interface: representing the memory of a running game
+ * in the full and the windowed view and parsing long programs of added AIs.
+ * An operation is a single representation, respectively a single added and removed AI.
+ *
+ * @author uqtwh
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CommandBenchmark {
+    private static final int SIZE = 1337;
+    private static final int LARGE_SIZE = 1 << 20;
+    private static final int RANDOM_SEED = 1337;
+    private static final String PROGRAM_NAME = "parsed";
+    private static final String[] DWARF_PROGRAM = {"ADD,4,3", "MOV_I,2,2", "JMP,-2,0"};
+    private static final String DELIMITER = ",";
+    private static final String PARSING_FAILED = "parsing the program failed: %s";
+
+    /**
+     * Executes a step of the running game and represents its memory,
+     * either fully or in the windowed view starting at a moving index.
+     * @param state     the running game
+     * @param blackhole consumes the representation
+     */
+    @Benchmark
+    public void represent(RepresentState state, Blackhole blackhole) {
+        if (state.memory.next(1) != null) {
+            blackhole.consume(state.memory.endGame());
+            state.memory.startGame(state.lineup);
+        }
+        state.index = (state.index + 1) % SIZE;
+        blackhole.consume(state.memory.getMemory(state.windowed ? state.index : -1));
+    }
+
+    /**
+     * Adds an AI with the {@link AddAICommand} and removes it again.
+     * @param state     the memory and the program of the added AI
+     * @param blackhole consumes the result of the command
+     */
+    @Benchmark
+    public void addAI(AddAIState state, Blackhole blackhole) {
+        CommandResult result = state.addAICommand.execute(state.memory, new Arguments(state.arguments));
+        if (result.getType() != CommandResultType.SUCCESS) {
+            throw new IllegalStateException(PARSING_FAILED.formatted(result.getMessage()));
+        }
+        state.memory.removeAi(PROGRAM_NAME);
+        blackhole.consume(result);
+    }
+
+    /**
+     * The class holds the running game represented by {@link #represent(RepresentState, Blackhole)}.
+     */
+    @State(Scope.Thread)
+    public static class RepresentState {
+
+        /**
+         * Whether the windowed view is represented instead of the full view.
+         */
+        @Param({"false", "true"})
+        public boolean windowed;
+
+        private Memory memory;
+        private List<AIObject> lineup;
+        private int index;
+
+        /**
+         * Starts the represented game.
+         */
+        @Setup
+        public void setUp() {
+            memory = Games.createMemory(SIZE, 2, ExecutionMode.OBJECT, ArenaType.HEAP);
+            memory.setSeed(RANDOM_SEED);
+            lineup = List.of(Mix.IMP.createAI(0), Mix.DWARF.createAI(1));
+            memory.startGame(lineup);
+        }
+    }
+
+    /**
+     * The class holds the memory and the program of the AI added by {@link #addAI(AddAIState, Blackhole)}.
+     */
+    @State(Scope.Thread)
+    public static class AddAIState {
+
+        /**
+         * Amount of commands of the program.
+         */
+        @Param({"100", "10000"})
+        public int programLength;
+
+        private final AddAICommand addAICommand = new AddAICommand();
+        private Memory memory;
+        private String[] arguments;
+
+        /**
+         * Creates the memory and joins the program of the added AI.
+         */
+        @Setup
+        public void setUp() {
+            memory = Games.createMemory(LARGE_SIZE, 2, ExecutionMode.OBJECT, ArenaType.OFF_HEAP);
+            StringJoiner program = new StringJoiner(DELIMITER);
+            for (int i = 0; i < programLength; i++) {
+                program.add(DWARF_PROGRAM[i % DWARF_PROGRAM.length]);
+            }
+            arguments = new String[] {PROGRAM_NAME, program.toString()};
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package kit.edu.informatik.bench;
+
+import kit.edu.informatik.model.memory.ArenaType;
+import kit.edu.informatik.model.memory.ExecutionMode;
+import kit.edu.informatik.model.memory.Memory;
+
+/**
+ * The class creates the memories of the benchmarks in the default game configuration, as the {@code Application}
+ * creates them without any system properties: no history, journal, metrics, heatmaps or mirror.
+ *
+ * @author uqtwh
+ * @version 1.0
+ */
+final class Games {
+    private static final String[] SYMBOLS = {"*", "[", "]", ">"};
+
+    /**
+     * Private constructor, not accessible.
+     */
+    private Games() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Creates a memory of the default game configuration for a given amount of AIs.
+     * @param size          size of the memory
+     * @param aiAmount      amount of AIs the memory provides symbols for
+     * @param executionMode mode in which the commands are executed
+     * @param arenaType     where the cells of the memory are stored
+     * @return the memory
+     */
+    static Memory createMemory(int size, int aiAmount, ExecutionMode executionMode, ArenaType arenaType) {
+        String[] aiSymbols = new String[2 * aiAmount];
+        for (int i = 0; i < aiSymbols.length; i++) {
+            aiSymbols[i] = String.valueOf((char) ('a' + i));
+        }
+        return new Memory(size, SYMBOLS, aiSymbols, executionMode, arenaType);
+    }
+}
@@ -0,0 +1,51 @@
+package kit.edu.informatik.bench;
+
+import kit.edu.informatik.model.AICommandTypes;
+import kit.edu.informatik.model.AIObject;
+import kit.edu.informatik.model.InstantiateCommand;
+
+/**
+ * The enum represents the mixes of commands executed by the AIs of the engine benchmarks.
+ * It is public, as the benchmark code generated by JMH sets the parameters of this type.
+ *
+ * @author uqtwh
+ * @version 1.0
+ */
+public enum Mix {
+
+    /**
+     * Every AI copies its single MOV_R command to the following cell and executes it there.
+     */
+    IMP,
+
+    /**
+     * Every AI loops over an ADD, a MOV_I and a JMP command, bombing every third cell.
+     */
+    DWARF,
+
+    /**
+     * The AIs alternate between the programs of {@link #IMP} and {@link #DWARF}.
+     */
+    MIXED;
+
+    private static final String IMP_NAME = "imp";
+    private static final String DWARF_NAME = "dwarf";
+
+    /**
+     * Creates the AI of the mix with a given order in the game.
+     * @param order order of the AI in the game
+     * @return the AI
+     */
+    AIObject createAI(int order) {
+        if (this == IMP || this == MIXED && order % 2 == 0) {
+            AIObject imp = new AIObject(IMP_NAME);
+            imp.addCommand(InstantiateCommand.instantiateCommand(AICommandTypes.MOV_R, 0, 1));
+            return imp;
+        }
+        AIObject dwarf = new AIObject(DWARF_NAME);
+        dwarf.addCommand(InstantiateCommand.instantiateCommand(AICommandTypes.ADD, 4, 3));
+        dwarf.addCommand(InstantiateCommand.instantiateCommand(AICommandTypes.MOV_I, 2, 2));
+        dwarf.addCommand(InstantiateCommand.instantiateCommand(AICommandTypes.JMP, -2, 0));
+        return dwarf;
+    }
+}
@@ -0,0 +1,369 @@
+package kit.edu.informatik.bench;
+
+import kit.edu.informatik.commands.CommandHandler;
+import kit.edu.informatik.model.memory.Memory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.StringJoiner;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * This class is the entry point of the end-to-end scenarios, which execute scripted sessions through the
+ * {@link CommandHandler} with the reference warriors of the corpus, on every memory size of {@link #MEMORY_SIZES}
+ * and every amount of AIs of {@link #AI_AMOUNTS} whose warriors fit into the memory.
+ * Each scenario is warmed up for a second and measured for two seconds, recording the executed steps per second and the
+ * wall time of its fastest run, which is least disturbed by other processes, the bytes allocated per run
+ * and a checksum of its output. The first argument is either {@code record},
+ * writing the results into the baseline file, or {@code check}, failing with exit code 1 if a scenario is slower or
+ * allocates more than the baseline by more than the threshold of {@link #THRESHOLD_PROPERTY}, or if its output changed.
+ *
+ * @author uqtwh
+ * @version 1.0
+ */
+public final class ScenarioRunner {
+    private static final String[] SYMBOLS = {"*", "[", "]", ">"};
+    private static final int[] MEMORY_SIZES = {7, 64, 1337};
+    private static final int MAX_AIS = 8;
+    private static final int[] AI_AMOUNTS = {2, 4, MAX_AIS};
+    private static final long WARMUP_NANOS = 1_000_000_000L;
+    private static final long MEASUREMENT_NANOS = 2_000_000_000L;
+    private static final int MIN_MEASURED_RUNS = 5;
+    private static final double NANOS_PER_SECOND = 1e9;
+    private static final double NANOS_PER_MILLI = 1e6;
+    private static final Path SCENARIO_DIRECTORY = Path.of("bench", "scenarios");
+    private static final Path WARRIOR_DIRECTORY = SCENARIO_DIRECTORY.resolve("warriors");
+    private static final Path SESSION_DIRECTORY = SCENARIO_DIRECTORY.resolve("sessions");
+    private static final Path DEFAULT_BASELINE = SCENARIO_DIRECTORY.resolve("baseline.properties");
+    private static final String SESSION_EXTENSION = ".session";
+    private static final String WARRIOR_EXTENSION = ".ai";
+    private static final String WARRIORS_PLACEHOLDER = "${warriors}";
+    private static final String LINEUP_PLACEHOLDER = "${lineup}";
+    private static final String COMMENT = "#";
+    private static final String NAME_SEPARATOR = "/";
+    private static final String LINEUP_SEPARATOR = " ";
+    private static final String THRESHOLD_PROPERTY = "codefight.bench.threshold";
+    private static final String BASELINE_PROPERTY = "codefight.bench.baseline";
+    private static final double DEFAULT_THRESHOLD = 0.2;
+    private static final String RECORD = "record";
+    private static final String CHECK = "check";
+    private static final String STEPS_KEY = "%s.stepsPerSecond";
+    private static final String WALL_TIME_KEY = "%s.wallMillis";
+    private static final String ALLOCATION_KEY = "%s.allocatedBytes";
+    private static final String CHECKSUM_KEY = "%s.outputChecksum";
+    private static final String BASELINE_COMMENT = "Scenario baseline, recorded with the scenario runner";
+    private static final String RESULT_PATTERN = "%-24s %14.1f steps/s %10.2f ms %14d B %08x";
+    private static final String NEW_SCENARIO = "%s: no baseline";
+    private static final String SLOWER = "%s: %s regressed from %.1f to %.1f";
+    private static final String OUTPUT_CHANGED = "%s: output changed from %s to %08x";
+    private static final String NONDETERMINISTIC = "%s: output differs between runs";
+    private static final String RECORDED = "Recorded %d scenarios in %s.";
+    private static final String PASSED = "All %d scenarios are within %.0f%% of the baseline.";
+    private static final String FAILED = "%d regressions beyond %.0f%% of the baseline.";
+    private static final String USAGE = "usage: ScenarioRunner record|check";
+    private static final double PERCENT = 100;
+    private static final String STEPS_METRIC = "steps per second";
+    private static final String WALL_TIME_METRIC = "wall time";
+    private static final String ALLOCATION_METRIC = "allocated bytes";
+    private static final int HEXADECIMAL = 16;
+    private final com.sun.management.ThreadMXBean threadBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private final List<Warrior> warriors;
+
+    /**
+     * Constructor of the class, reading the warriors of the corpus.
+     * @throws IOException if the corpus cannot be read
+     */
+    private ScenarioRunner() throws IOException {
+        warriors = readWarriors();
+    }
+
+    /**
+     * Main method of the class.
+     * @param args arguments of the command line, {@code record} or {@code check}
+     * @throws IOException if the corpus or the baseline cannot be read or the baseline cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1 || !(args[0].equals(RECORD) || args[0].equals(CHECK))) {
+            System.err.println(USAGE);
+            System.exit(1);
+        }
+        Path baselineFile = Path.of(System.getProperty(BASELINE_PROPERTY, DEFAULT_BASELINE.toString()));
+        double threshold = Double.parseDouble(System.getProperty(THRESHOLD_PROPERTY, String.valueOf(DEFAULT_THRESHOLD)));
+        ScenarioRunner runner = new ScenarioRunner();
+
+        Properties results = new Properties();
+        int scenarios = 0;
+        List<String> regressions = new ArrayList<>();
+        Properties baseline = new Properties();
+        if (args[0].equals(CHECK)) {
+            try (Reader reader = Files.newBufferedReader(baselineFile, StandardCharsets.UTF_8)) {
+                baseline.load(reader);
+            }
+        }
+        for (Path session : runner.listSessions()) {
+            String sessionName = session.getFileName().toString().replace(SESSION_EXTENSION, "");
+            String script = Files.readString(session, StandardCharsets.UTF_8);
+            for (int size : MEMORY_SIZES) {
+                for (int aiAmount : AI_AMOUNTS) {
+                    String lineup = runner.lineup(size, aiAmount);
+                    if (lineup.isEmpty()) {
+                        continue;
+                    }
+                    String name = String.join(NAME_SEPARATOR, sessionName, String.valueOf(size), String.valueOf(aiAmount));
+                    Result result = runner.measure(name, size, script.replace(LINEUP_PLACEHOLDER, lineup));
+                    System.out.println(RESULT_PATTERN.formatted(name, result.stepsPerSecond, result.wallMillis,
+                            result.allocatedBytes, result.checksum));
+                    result.store(name, results);
+                    regressions.addAll(result.compare(name, baseline, threshold));
+                    scenarios++;
+                }
+            }
+        }
+
+        if (args[0].equals(RECORD)) {
+            try (Writer writer = Files.newBufferedWriter(baselineFile, StandardCharsets.UTF_8)) {
+                results.store(writer, BASELINE_COMMENT);
+            }
+            System.out.println(RECORDED.formatted(scenarios, baselineFile));
+        } else if (regressions.isEmpty()) {
+            System.out.println(PASSED.formatted(scenarios, threshold * PERCENT));
+        } else {
+            regressions.forEach(System.err::println);
+            System.err.println(FAILED.formatted(regressions.size(), threshold * PERCENT));
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Private helper method for {@link #main(String[])}, warming up and measuring a single scenario.
+     * @param name   name of the scenario
+     * @param size   memory size of the scenario
+     * @param script script of the session with the lineup of the scenario
+     * @return result of the scenario
+     */
+    private Result measure(String name, int size, String script) {
+        String expandedScript = script.replace(WARRIORS_PLACEHOLDER, WARRIOR_DIRECTORY.toString());
+        long warmupEnd = System.nanoTime() + WARMUP_NANOS;
+        while (System.nanoTime() < warmupEnd) {
+            run(size, expandedScript);
+        }
+        long threadId = Thread.currentThread().getId();
+        List<Long> wallNanos = new ArrayList<>();
+        long steps = 0;
+        long checksum = -1;
+        long allocatedBytes = threadBean.getThreadAllocatedBytes(threadId);
+        long measurementEnd = System.nanoTime() + MEASUREMENT_NANOS;
+        while (wallNanos.size() < MIN_MEASURED_RUNS || System.nanoTime() < measurementEnd) {
+            long start = System.nanoTime();
+            Run run = run(size, expandedScript);
+            wallNanos.add(System.nanoTime() - start);
+            steps = run.steps;
+            if (checksum >= 0 && checksum != run.checksum) {
+                throw new IllegalStateException(NONDETERMINISTIC.formatted(name));
+            }
+            checksum = run.checksum;
+        }
+        allocatedBytes = (threadBean.getThreadAllocatedBytes(threadId) - allocatedBytes) / wallNanos.size();
+        long fastestNanos = Collections.min(wallNanos);
+        return new Result(steps * NANOS_PER_SECOND / fastestNanos, fastestNanos / NANOS_PER_MILLI, allocatedBytes, checksum);
+    }
+
+    /**
+     * Private helper method for {@link #measure(String, int, String)}, executing a session in a new memory.
+     * @param size   memory size of the session
+     * @param script script of the session
+     * @return executed steps and checksum of the output of the session
+     */
+    private Run run(int size, String script) {
+        String[] aiSymbols = new String[2 * MAX_AIS];
+        for (int i = 0; i < aiSymbols.length; i++) {
+            aiSymbols[i] = String.valueOf((char) ('a' + i));
+        }
+        Memory memory = new Memory(size, SYMBOLS, aiSymbols);
+        CRC32 crc = new CRC32();
+        PrintStream output = new PrintStream(new CheckedOutputStream(OutputStream.nullOutputStream(), crc), false,
+                StandardCharsets.UTF_8);
+        try {
+            new CommandHandler(memory).handleScript(new BufferedReader(new StringReader(script)), output, output);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new Run(memory.getGameSteps(), crc.getValue());
+    }
+
+    /**
+     * Private helper method, choosing the lineup of a scenario from the warriors which fit into the memory,
+     * cycling through them in the order of their names.
+     * @param size     memory size of the scenario
+     * @param aiAmount amount of AIs of the scenario
+     * @return the names of the AIs of the lineup, separated by spaces, or an empty String if no warrior fits
+     */
+    private String lineup(int size, int aiAmount) {
+        List<String> fitting = new ArrayList<>();
+        for (Warrior warrior : warriors) {
+            if (warrior.length <= size / aiAmount) {
+                fitting.add(warrior.name);
+            }
+        }
+        StringJoiner lineup = new StringJoiner(LINEUP_SEPARATOR);
+        for (int i = 0; !fitting.isEmpty() && i < aiAmount; i++) {
+            lineup.add(fitting.get(i % fitting.size()));
+        }
+        return lineup.toString();
+    }
+
+    /**
+     * Private helper method, listing the session scripts of the corpus in the order of their names.
+     * @return the paths of the session scripts
+     * @throws IOException if the session directory cannot be read
+     */
+    private List<Path> listSessions() throws IOException {
+        try (Stream<Path> sessions = Files.list(SESSION_DIRECTORY)) {
+            return sessions.filter(session -> session.toString().endsWith(SESSION_EXTENSION)).sorted().toList();
+        }
+    }
+
+    /**
+     * Private helper method for the constructor, reading the names and the amount of commands of the warriors.
+     * @return the warriors in the order of their names
+     * @throws IOException if the warrior directory cannot be read
+     */
+    private static List<Warrior> readWarriors() throws IOException {
+        List<Warrior> corpus = new ArrayList<>();
+        try (Stream<Path> files = Files.list(WARRIOR_DIRECTORY)) {
+            for (Path file : files.filter(file -> file.toString().endsWith(WARRIOR_EXTENSION)).sorted().toList()) {
+                int length = 0;
+                for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                    int comment = line.indexOf(COMMENT);
+                    length += (comment < 0 ? line : line.substring(0, comment)).isBlank() ? 0 : 1;
+                }
+                corpus.add(new Warrior(file.getFileName().toString().replace(WARRIOR_EXTENSION, ""), length));
+            }
+        }
+        return corpus;
+    }
+
+    /**
+     * The class models a warrior of the corpus, whose program lists one command per line.
+     */
+    private static final class Warrior {
+        private final String name;
+        private final int length;
+
+        /**
+         * Constructor of the class.
+         * @param name   name of the warrior
+         * @param length amount of commands of the warrior
+         */
+        private Warrior(String name, int length) {
+            this.name = name;
+            this.length = length;
+        }
+    }
+
+    /**
+     * The class models a single run of a session.
+     */
+    private static final class Run {
+        private final long steps;
+        private final long checksum;
+
+        /**
+         * Constructor of the class.
+         * @param steps    executed steps of the session
+         * @param checksum checksum of the output of the session
+         */
+        private Run(long steps, long checksum) {
+            this.steps = steps;
+            this.checksum = checksum;
+        }
+    }
+
+    /**
+     * The class models the measured result of a scenario.
+     */
+    private static final class Result {
+        private final double stepsPerSecond;
+        private final double wallMillis;
+        private final long allocatedBytes;
+        private final long checksum;
+
+        /**
+         * Constructor of the class.
+         * @param stepsPerSecond executed steps per second of the fastest run
+         * @param wallMillis     wall time of the fastest run in milliseconds
+         * @param allocatedBytes bytes allocated per run
+         * @param checksum       checksum of the output of every run
+         */
+        private Result(double stepsPerSecond, double wallMillis, long allocatedBytes, long checksum) {
+            this.stepsPerSecond = stepsPerSecond;
+            this.wallMillis = wallMillis;
+            this.allocatedBytes = allocatedBytes;
+            this.checksum = checksum;
+        }
+
+        /**
+         * Stores the result of a scenario in the given properties.
+         * @param name       name of the scenario
+         * @param properties properties to store the result in
+         */
+        private void store(String name, Properties properties) {
+            properties.setProperty(STEPS_KEY.formatted(name), String.valueOf(stepsPerSecond));
+            properties.setProperty(WALL_TIME_KEY.formatted(name), String.valueOf(wallMillis));
+            properties.setProperty(ALLOCATION_KEY.formatted(name), String.valueOf(allocatedBytes));
+            properties.setProperty(CHECKSUM_KEY.formatted(name), Long.toHexString(checksum));
+        }
+
+        /**
+         * Compares the result of a scenario with its baseline.
+         * @param name      name of the scenario
+         * @param baseline  the baseline, empty if nothing is compared
+         * @param threshold tolerated relative regression
+         * @return the regressions of the scenario
+         */
+        private List<String> compare(String name, Properties baseline, double threshold) {
+            List<String> regressions = new ArrayList<>();
+            if (baseline.isEmpty()) {
+                return regressions;
+            }
+            String baselineChecksum = baseline.getProperty(CHECKSUM_KEY.formatted(name));
+            if (baselineChecksum == null) {
+                System.out.println(NEW_SCENARIO.formatted(name));
+                return regressions;
+            }
+            if (Long.parseLong(baselineChecksum, HEXADECIMAL) != checksum) {
+                regressions.add(OUTPUT_CHANGED.formatted(name, baselineChecksum, checksum));
+            }
+            double baselineSteps = Double.parseDouble(baseline.getProperty(STEPS_KEY.formatted(name)));
+            if (stepsPerSecond < baselineSteps * (1 - threshold)) {
+                regressions.add(SLOWER.formatted(name, STEPS_METRIC, baselineSteps, stepsPerSecond));
+            }
+            double baselineWallMillis = Double.parseDouble(baseline.getProperty(WALL_TIME_KEY.formatted(name)));
+            if (wallMillis > baselineWallMillis * (1 + threshold)) {
+                regressions.add(SLOWER.formatted(name, WALL_TIME_METRIC, baselineWallMillis, wallMillis));
+            }
+            double baselineAllocation = Double.parseDouble(baseline.getProperty(ALLOCATION_KEY.formatted(name)));
+            if (allocatedBytes > baselineAllocation * (1 + threshold)) {
+                regressions.add(SLOWER.formatted(name, ALLOCATION_METRIC, baselineAllocation, (double) allocatedBytes));
+            }
+            return regressions;
+        }
+    }
+}
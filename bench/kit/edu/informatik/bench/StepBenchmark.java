@@ -0,0 +1,90 @@
+package kit.edu.informatik.bench;
+
+import kit.edu.informatik.model.AIObject;
+import kit.edu.informatik.model.memory.ArenaType;
+import kit.edu.informatik.model.memory.ExecutionMode;
+import kit.edu.informatik.model.memory.Memory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The class benchmarks executing steps with {@link Memory#next(int)} per execution mode, mix of commands
+ * and amount of AIs, restarting the game whenever an AI stops. An operation is a single executed step.
+ *
+ * @author uqtwh
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class StepBenchmark {
+    private static final int SIZE = 1337;
+    private static final int STEPS_PER_INVOCATION = 100_000;
+
+    /**
+     * Mode in which the commands are executed.
+     */
+    @Param({"OBJECT", "SWITCH"})
+    public ExecutionMode executionMode;
+
+    /**
+     * Mix of commands of the AIs.
+     */
+    @Param({"IMP", "DWARF", "MIXED"})
+    public Mix mix;
+
+    /**
+     * Amount of AIs of the game.
+     */
+    @Param({"2", "8"})
+    public int aiAmount;
+
+    private Memory memory;
+    private List<AIObject> lineup;
+
+    /**
+     * Starts the game of the benchmarked configuration.
+     */
+    @Setup
+    public void setUp() {
+        memory = Games.createMemory(SIZE, aiAmount, executionMode, ArenaType.HEAP);
+        lineup = new ArrayList<>();
+        for (int i = 0; i < aiAmount; i++) {
+            lineup.add(mix.createAI(i));
+        }
+        memory.startGame(lineup);
+    }
+
+    /**
+     * Executes the steps of an invocation, restarting the game if an AI stopped.
+     * @param blackhole consumes the result of the steps
+     */
+    @Benchmark
+    @OperationsPerInvocation(STEPS_PER_INVOCATION)
+    public void next(Blackhole blackhole) {
+        String stopped = memory.next(STEPS_PER_INVOCATION);
+        if (stopped != null) {
+            blackhole.consume(memory.endGame());
+            memory.startGame(lineup);
+        }
+        blackhole.consume(stopped);
+    }
+}
@@ -3,8 +3,13 @@ package kit.edu.informatik;
 import kit.edu.informatik.commands.Arguments;
 import kit.edu.informatik.commands.CommandHandler;
 import kit.edu.informatik.exceptions.InvalidArgumentException;
+import kit.edu.informatik.model.memory.ArenaType;
+import kit.edu.informatik.model.memory.ExecutionMode;
 import kit.edu.informatik.model.memory.Memory;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Optional;
 
 /**
@@ -16,6 +21,8 @@ import java.util.Optional;
 public final class Application {
     private static final int LOWER_BOUND = 7;
     private static final int UPPER_BOUND = 1337;
+    private static final int OFF_HEAP_UPPER_BOUND = Integer.MAX_VALUE;
+    private static final int HEATMAP_UPPER_BOUND = 1 << 20;
     private static final String ERROR_PREFIX = "Error, ";
     private static final String OUT_OF_BOUNDS = ERROR_PREFIX + "argument %d is outside bounds of %d to %d.";
     private static final String INVALID_ARGUMENT_AMOUNT = ERROR_PREFIX + "number of arguments %d is invalid";
@@ -23,8 +30,27 @@ public final class Application {
     private static final String DUPLICATE_SYMBOLS = "symbol %s occurs multiple times, which is not allowed.";
     private static final String[] SYMBOLS = new String[4];
     private static final int MIN_ARGUMENT_AMOUNT = 4;
+    private static final String EXECUTION_MODE_PROPERTY = "codefight.engine";
+    private static final String INVALID_EXECUTION_MODE = "execution mode %s does not exist.";
+    private static final String ARENA_TYPE_PROPERTY = "codefight.arena";
+    private static final String INVALID_ARENA_TYPE = "arena type %s does not exist.";
+    private static final String JOURNAL_PROPERTY = "codefight.journal";
+    private static final String INVALID_JOURNAL_DIRECTORY = "journal directory %s does not exist.";
+    private static final String MIRROR_PROPERTY = "codefight.mirror";
+    private static final String INVALID_MIRROR_FILE = "mirror file %s cannot be created.";
+    private static final String SCRIPT_PROPERTY = "codefight.script";
+    private static final String INVALID_SCRIPT_FILE = "script file %s does not exist.";
+    private static final String UNREADABLE_SCRIPT_FILE = "script file %s cannot be read.";
+    private static final String METRICS_PROPERTY = "codefight.metrics";
+    private static final String HEATMAPS_PROPERTY = "codefight.heatmaps";
+    private static final String HISTORY_PROPERTY = "codefight.history";
+    private static final String HEATMAPS_OUT_OF_BOUNDS = "heatmaps are only recorded for memory sizes up to %d.";
     private static String[] aiSymbols;
     private static int range;
+    private static ExecutionMode executionMode;
+    private static ArenaType arenaType;
+    private static Path journalDirectory;
+    private static Path scriptFile;
 
     /**
      * Private constructor, not accessible.
@@ -40,14 +66,34 @@ public final class Application {
     public static void main(String[] args) {
         try {
             Arguments arguments = new Arguments(args);
+            readArenaType();
             invalidArgs(arguments);
+            readExecutionMode();
+            readJournalDirectory();
+            readScriptFile();
+
+            Memory memory = new Memory(range, SYMBOLS, aiSymbols, executionMode, arenaType);
+            memory.setJournalDirectory(journalDirectory);
+            if (Boolean.getBoolean(METRICS_PROPERTY)) {
+                memory.enableMetrics();
+            }
+            enableHeatmaps(memory);
+            if (Boolean.getBoolean(HISTORY_PROPERTY)) {
+                memory.enableHistory();
+            }
+            openMirror(memory);
 
             System.out.println(SUCCESSFUL_START);
-            Memory memory = new Memory(range, SYMBOLS, aiSymbols);
             CommandHandler commandHandler = new CommandHandler(memory);
-            commandHandler.handleUserInput();
+            if (scriptFile == null) {
+                commandHandler.handleUserInput();
+            } else {
+                commandHandler.handleScript(scriptFile);
+            }
         } catch (InvalidArgumentException e) {
             System.err.println(ERROR_PREFIX + e.getMessage());
+        } catch (IOException e) {
+            System.err.println(ERROR_PREFIX + UNREADABLE_SCRIPT_FILE.formatted(scriptFile));
         }
     }
 
@@ -60,9 +106,10 @@ public final class Application {
      */
     private static void invalidArgs(Arguments arguments) throws InvalidArgumentException {
         range = arguments.nextInt();
-        // Validating range
-        if (range < LOWER_BOUND || range > UPPER_BOUND) {
-            throw new InvalidArgumentException(OUT_OF_BOUNDS.formatted(range, LOWER_BOUND, UPPER_BOUND));
+        // Validating range, off-heap and lazy arenas are not bound by the size of the Java heap
+        int upperBound = arenaType == ArenaType.HEAP ? UPPER_BOUND : OFF_HEAP_UPPER_BOUND;
+        if (range < LOWER_BOUND || range > upperBound) {
+            throw new InvalidArgumentException(OUT_OF_BOUNDS.formatted(range, LOWER_BOUND, upperBound));
         }
         // Reading AI independent symbols
         for (int i = 0; i < SYMBOLS.length; i++) {
@@ -85,6 +132,104 @@ public final class Application {
         }
     }
 
+    /**
+     * Reads the {@link ExecutionMode} of the game from the system property {@link #EXECUTION_MODE_PROPERTY},
+     * defaulting to {@link ExecutionMode#OBJECT}.
+     * @throws InvalidArgumentException if the execution mode does not exist
+     */
+    private static void readExecutionMode() throws InvalidArgumentException {
+        String modeName = System.getProperty(EXECUTION_MODE_PROPERTY, ExecutionMode.OBJECT.name());
+        for (ExecutionMode mode : ExecutionMode.values()) {
+            if (mode.name().equals(modeName)) {
+                executionMode = mode;
+                return;
+            }
+        }
+        throw new InvalidArgumentException(INVALID_EXECUTION_MODE.formatted(modeName));
+    }
+
+    /**
+     * Reads the {@link ArenaType} of the memory from the system property {@link #ARENA_TYPE_PROPERTY},
+     * defaulting to {@link ArenaType#HEAP}.
+     * @throws InvalidArgumentException if the arena type does not exist
+     */
+    private static void readArenaType() throws InvalidArgumentException {
+        String typeName = System.getProperty(ARENA_TYPE_PROPERTY, ArenaType.HEAP.name());
+        for (ArenaType type : ArenaType.values()) {
+            if (type.name().equals(typeName)) {
+                arenaType = type;
+                return;
+            }
+        }
+        throw new InvalidArgumentException(INVALID_ARENA_TYPE.formatted(typeName));
+    }
+
+    /**
+     * Reads the directory in which the games are recorded as journals from the system property {@link #JOURNAL_PROPERTY},
+     * defaulting to no journals being recorded.
+     * @throws InvalidArgumentException if the directory does not exist
+     */
+    private static void readJournalDirectory() throws InvalidArgumentException {
+        String directoryName = System.getProperty(JOURNAL_PROPERTY);
+        if (directoryName == null) {
+            return;
+        }
+        journalDirectory = Path.of(directoryName);
+        if (!Files.isDirectory(journalDirectory)) {
+            throw new InvalidArgumentException(INVALID_JOURNAL_DIRECTORY.formatted(directoryName));
+        }
+    }
+
+    /**
+     * Reads the file whose commands are executed instead of the commands of the user from the system property
+     * {@link #SCRIPT_PROPERTY}, defaulting to the commands of the user being executed.
+     * @throws InvalidArgumentException if the file does not exist
+     */
+    private static void readScriptFile() throws InvalidArgumentException {
+        String fileName = System.getProperty(SCRIPT_PROPERTY);
+        if (fileName == null) {
+            return;
+        }
+        scriptFile = Path.of(fileName);
+        if (!Files.isRegularFile(scriptFile)) {
+            throw new InvalidArgumentException(INVALID_SCRIPT_FILE.formatted(fileName));
+        }
+    }
+
+    /**
+     * Enables the heatmaps of a given memory if the system property {@link #HEATMAPS_PROPERTY} is {@code true}.
+     * As every AI counts three integers per cell, heatmaps are limited to memory sizes up to {@link #HEATMAP_UPPER_BOUND}.
+     * @param memory the memory whose games are counted in heatmaps
+     * @throws InvalidArgumentException if the memory is too large for heatmaps
+     */
+    private static void enableHeatmaps(Memory memory) throws InvalidArgumentException {
+        if (!Boolean.getBoolean(HEATMAPS_PROPERTY)) {
+            return;
+        }
+        if (range > HEATMAP_UPPER_BOUND) {
+            throw new InvalidArgumentException(HEATMAPS_OUT_OF_BOUNDS.formatted(HEATMAP_UPPER_BOUND));
+        }
+        memory.enableHeatmaps();
+    }
+
+    /**
+     * Opens the file given by the system property {@link #MIRROR_PROPERTY}, into which the state of the games
+     * of a given memory is mirrored, defaulting to no mirror.
+     * @param memory the memory whose games are mirrored
+     * @throws InvalidArgumentException if the file cannot be created
+     */
+    private static void openMirror(Memory memory) throws InvalidArgumentException {
+        String fileName = System.getProperty(MIRROR_PROPERTY);
+        if (fileName == null) {
+            return;
+        }
+        try {
+            memory.openMirror(Path.of(fileName));
+        } catch (IOException e) {
+            throw new InvalidArgumentException(INVALID_MIRROR_FILE.formatted(fileName));
+        }
+    }
+
     /**
      * Helper method for {@link #invalidArgs(Arguments)}, checking for duplicates in a given String array.
      * @param symbols array to check
@@ -0,0 +1,109 @@
+package kit.edu.informatik.commands;
+
+import kit.edu.informatik.exceptions.InvalidArgumentException;
+import kit.edu.informatik.model.AICommandTypes;
+import kit.edu.informatik.model.AIObject;
+import kit.edu.informatik.model.InstantiateCommand;
+
+import java.util.Optional;
+
+/**
+ * The class scans the program of an AI from the content of a program file in a single pass over its characters.
+ * A program consists of commands, each given by its type and its two entries, as in {@link AddAICommand}.
+ * Types and entries are separated by commas or whitespace, a {@link #COMMENT} starts a comment up to the end of its line.
+ *
+ * @author uqtwh
+ * @version 1.0
+ */
+final class AIProgramScanner {
+    private static final char SEPARATOR = ',';
+    private static final char COMMENT = '#';
+    private static final char LINE_END = '\n';
+    private static final String MISSING_ENTRY = "expected another argument.";
+    private static final String INVALID_ENTRY = "expected an Integer but got %s.";
+    private static final String NONEXISTENT_COMMAND = "command named \"%s\" does not exist.";
+    private final String program;
+    private int position = 0;
+
+    /**
+     * Private constructor of the class, use {@link #scan(String, String)} instead.
+     * @param program content of the program file
+     */
+    private AIProgramScanner(String program) {
+        this.program = program;
+    }
+
+    /**
+     * Scans the program of an AI with a given name.
+     * @param name    name of the AI
+     * @param program content of the program file
+     * @return the AI with the commands of the program
+     * @throws InvalidArgumentException if a command type does not exist
+     * @throws InvalidArgumentException if an entry is missing or no Integer
+     */
+    static AIObject scan(String name, String program) throws InvalidArgumentException {
+        AIProgramScanner scanner = new AIProgramScanner(program);
+        AIObject scannedAI = new AIObject(name);
+        Optional<String> type = scanner.nextToken();
+        while (type.isPresent()) {
+            Optional<AICommandTypes> commandType = AICommandTypes.fromName(type.get());
+            if (commandType.isEmpty()) {
+                throw new InvalidArgumentException(NONEXISTENT_COMMAND.formatted(type.get()));
+            }
+            scannedAI.addCommand(InstantiateCommand.instantiateCommand(commandType.get(),
+                    scanner.nextEntry(), scanner.nextEntry()));
+            type = scanner.nextToken();
+        }
+        return scannedAI;
+    }
+
+    /**
+     * Private helper method for {@link #scan(String, String)}, returning the next entry of a command.
+     * @return the entry
+     * @throws InvalidArgumentException if there is no next token or the token is no Integer
+     */
+    private int nextEntry() throws InvalidArgumentException {
+        Optional<String> entry = nextToken();
+        if (entry.isEmpty()) {
+            throw new InvalidArgumentException(MISSING_ENTRY);
+        }
+        try {
+            return Integer.parseInt(entry.get());
+        } catch (NumberFormatException e) {
+            throw new InvalidArgumentException(INVALID_ENTRY.formatted(entry.get()));
+        }
+    }
+
+    /**
+     * Private helper method, skipping separators and comments and returning the following token.
+     * @return Optional of the next token or an empty Optional if the program ends before
+     */
+    private Optional<String> nextToken() {
+        while (position < program.length()) {
+            char current = program.charAt(position);
+            if (current == COMMENT) {
+                int lineEnd = program.indexOf(LINE_END, position);
+                position = lineEnd < 0 ? program.length() : lineEnd;
+            } else if (isSeparator(current)) {
+                position++;
+            } else {
+                break;
+            }
+        }
+        int tokenBegin = position;
+        while (position < program.length() && !isSeparator(program.charAt(position))
+                && program.charAt(position) != COMMENT) {
+            position++;
+        }
+        return tokenBegin == position ? Optional.empty() : Optional.of(program.substring(tokenBegin, position));
+    }
+
+    /**
+     * Private helper method for {@link #nextToken()}, checking if a character separates tokens.
+     * @param character the character to check
+     * @return {@code true} if the character is a comma or whitespace, otherwise {@code false}
+     */
+    private static boolean isSeparator(char character) {
+        return character == SEPARATOR || Character.isWhitespace(character);
+    }
+}
@@ -59,19 +59,16 @@ public final class AddAICommand implements Command {
             // Converting the given arguments to AICommands
             for (int i = 0; i < commandList.length; i += COMMAND_ARGUMENTS) {
                 String type = arguments.nextString();
-                if (value(type).isEmpty()) {
+                Optional<AICommandTypes> commandType = AICommandTypes.fromName(type);
+                if (commandType.isEmpty()) {
                     return new CommandResult(CommandResultType.FAILURE, NONEXISTENT_COMMAND.formatted(type));
                 }
-                newAI.addCommand(InstantiateCommand.instantiateCommand(value(type).get(),
+                newAI.addCommand(InstantiateCommand.instantiateCommand(commandType.get(),
                         arguments.nextInt(), arguments.nextInt()));
             }
-            // Checking if the AI has a non STOP command
-            if (!getNonStop(newAI)) {
-                return new CommandResult(CommandResultType.FAILURE, INVALID_COMMANDS);
-            }
-            if ((commandList.length / COMMAND_ARGUMENTS) > (int) Math.ceil((double) memory.getSize() / 2)) {
-                return new CommandResult(CommandResultType.FAILURE, INVALID_COMMAND_AMOUNT.formatted(
-                        memory.getSize(), commandList.length / COMMAND_ARGUMENTS));
+            Optional<String> invalidCommands = validateCommands(newAI, memory.getSize());
+            if (invalidCommands.isPresent()) {
+                return new CommandResult(CommandResultType.FAILURE, invalidCommands.get());
             }
 
             memory.addAI(newAI);
@@ -82,11 +79,29 @@ public final class AddAICommand implements Command {
     }
 
     /**
-     * Private helper method for {@link #execute(Memory, Arguments)}, evaluating if the AI has a non-STOP command.
+     * Checks if the commands of an AI can be played in a memory of a given size, which requires a non-STOP command
+     * and at most half as many commands as the memory has cells.
+     * @param checkedAI  AI to be checked
+     * @param memorySize size of the memory
+     * @return empty Optional if the commands are valid, otherwise an Optional of the error message
+     */
+    static Optional<String> validateCommands(AIObject checkedAI, int memorySize) {
+        // Checking if the AI has a non STOP command
+        if (!getNonStop(checkedAI)) {
+            return Optional.of(INVALID_COMMANDS);
+        }
+        if (checkedAI.getCommands().size() > (int) Math.ceil((double) memorySize / 2)) {
+            return Optional.of(INVALID_COMMAND_AMOUNT.formatted(memorySize, checkedAI.getCommands().size()));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Private helper method for {@link #validateCommands(AIObject, int)}, evaluating if the AI has a non-STOP command.
      * @param checkedAI AI to be evaluated
      * @return {@code true} if there is a non-STOP command, otherwise {@code false}
      */
-    private boolean getNonStop(AIObject checkedAI) {
+    private static boolean getNonStop(AIObject checkedAI) {
         for (int i = 0; i < checkedAI.getCommands().size(); i++) {
             if (checkedAI.getCommands().get(i).getCommandType() != AICommandTypes.STOP) {
                 return true;
@@ -95,22 +110,6 @@ public final class AddAICommand implements Command {
         return false;
     }
 
-    /**
-     * Private helper method for {@link #execute(Memory, Arguments)}, returns an {@link Optional} of
-     * the enum value of a given String.
-     * If the String does not match any value, an empty Optional is returned.
-     * @param name the String to convert to an enum value
-     * @return Optional of the enum value of the given String or an emtpy Optional
-     */
-    private Optional<AICommandTypes> value(String name) {
-        for (AICommandTypes command : AICommandTypes.values()) {
-            if (command.name().equals(name)) {
-                return Optional.of(command);
-            }
-        }
-        return Optional.empty();
-    }
-
     /**
      * Returns the {@link #ACCESSIBILITY_PHASE} in which the command is accessible.
      * @return accessibility phase
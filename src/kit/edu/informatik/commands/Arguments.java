@@ -38,7 +38,7 @@ public final class Arguments {
         if (index - 1 >= arguments.length) {
             throw new InvalidArgumentException(ARGUMENT_MISMATCH1);
         }
-        if (arguments[index - 1].replaceAll(INVALID_CHARACTER, "").length() != arguments[index - 1].length()) {
+        if (arguments[index - 1].contains(INVALID_CHARACTER)) {
             throw new InvalidArgumentException(INVALID_CHARACTER_ERROR.formatted(INVALID_CHARACTER));
         }
         return arguments[index - 1];
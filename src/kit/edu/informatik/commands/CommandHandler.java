@@ -5,12 +5,22 @@
 package kit.edu.informatik.commands;
 
 import kit.edu.informatik.model.memory.Memory;
+import kit.edu.informatik.model.metrics.Metrics;
 import kit.edu.informatik.model.memory.Phase;
 
-import java.util.Arrays;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Scanner;
 
 /**
@@ -21,17 +31,22 @@ import java.util.Scanner;
  * @version 1.0
  */
 public final class CommandHandler {
-    private static final String COMMAND_SEPARATOR_REGEX = " ";
+    private static final char COMMAND_SEPARATOR = ' ';
+    private static final int SCRIPT_BUFFER_SIZE = 1 << 20;
     private static final String ERROR_PREFIX = "Error, ";
     private static final String COMMAND_NOT_FOUND_FORMAT = ERROR_PREFIX + "command '%s' not found";
     private static final String QUIT_COMMAND_NAME = "quit";
     private static final String NOT_ACCESSIBLE = ERROR_PREFIX + "this command is not accessible in current phase \"%s\".";
     private static final Command[] COMMANDS = {new AddAICommand(), new EndGameCommand(),
-        new HelpCommand(), new NextCommand(), new QuitCommand(null), new RemoveAICommand(),
-        new SetInitModeCommand(), new ShowAICommand(), new ShowMemoryCommand(), new StartGameCommand()};
+        new HelpCommand(), new ImportAIsCommand(), new NextCommand(), new QuitCommand(null),
+        new RemoveAICommand(), new ReplayCommand(), new RewindCommand(), new RunCommand(),
+        new SetInitModeCommand(), new ShowAICommand(), new ShowHeatmapCommand(), new ShowMemoryCommand(),
+        new StartGameCommand(), new StatsCommand(), new SweepSeedsCommand(), new TournamentCommand()};
     private final Map<String, Command> commands;
     private final Memory memory;
     private boolean running = false;
+    private PrintStream output = System.out;
+    private PrintStream errorOutput = System.err;
 
     /**
      * Constructs a new CommandHandler.
@@ -53,6 +68,52 @@ public final class CommandHandler {
             while (running && scanner.hasNextLine()) {
                 executeCommand(scanner.nextLine());
             }
+        } finally {
+            memory.closeJournal();
+        }
+    }
+
+    /**
+     * Executes the commands of a script file, one per line, until the file ends or the {@code quit} command is executed.
+     * Unlike {@link #handleUserInput()}, the results are collected in large buffers, which are written
+     * when they are full and at the end of the script, so the standard output and the standard error
+     * are each in order, but not interleaved with each other line by line.
+     * @param script path of the script file
+     * @throws IOException if the script file cannot be read
+     */
+    public void handleScript(Path script) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(script, StandardCharsets.UTF_8)) {
+            handleScript(reader,
+                    new PrintStream(new BufferedOutputStream(new FileOutputStream(FileDescriptor.out), SCRIPT_BUFFER_SIZE)),
+                    new PrintStream(new BufferedOutputStream(new FileOutputStream(FileDescriptor.err), SCRIPT_BUFFER_SIZE)));
+        }
+    }
+
+    /**
+     * Executes the commands of a script, one per line, until the script ends or the {@code quit} command is executed,
+     * printing the results to the given streams instead of the standard output and the standard error.
+     * The streams are flushed at the end of the script, but not closed.
+     * @param script      reader of the script
+     * @param output      stream to print the successful results to
+     * @param errorOutput stream to print the errors to
+     * @throws IOException if the script cannot be read
+     */
+    public void handleScript(BufferedReader script, PrintStream output, PrintStream errorOutput) throws IOException {
+        this.running = true;
+        this.output = output;
+        this.errorOutput = errorOutput;
+        try {
+            String line = script.readLine();
+            while (running && line != null) {
+                executeCommand(line);
+                line = script.readLine();
+            }
+        } finally {
+            memory.closeJournal();
+            output.flush();
+            errorOutput.flush();
+            this.output = System.out;
+            this.errorOutput = System.err;
         }
     }
 
@@ -68,11 +129,39 @@ public final class CommandHandler {
      * @param commandWithArguments String with command
      */
     private void executeCommand(String commandWithArguments) {
-        String[] splittedCommand = commandWithArguments.trim().split(COMMAND_SEPARATOR_REGEX);
-        String commandName = splittedCommand[0];
-        String[] commandArguments = Arrays.copyOfRange(splittedCommand, 1, splittedCommand.length);
+        String trimmedCommand = commandWithArguments.trim();
+        int nameEnd = trimmedCommand.indexOf(COMMAND_SEPARATOR);
+        if (nameEnd < 0) {
+            executeCommand(trimmedCommand, new Arguments(new String[0]));
+            return;
+        }
+        executeCommand(trimmedCommand.substring(0, nameEnd), new Arguments(tokenize(trimmedCommand, nameEnd + 1)));
+    }
 
-        executeCommand(commandName, new Arguments(commandArguments));
+    /**
+     * Private helper method for {@link #executeCommand(String)}, splitting a trimmed String at every
+     * {@link #COMMAND_SEPARATOR} from a given index on, without compiling a regular expression.
+     * Consecutive separators result in empty tokens between them.
+     * @param trimmedCommand the String to split, which neither starts nor ends with a separator
+     * @param beginIndex     index of the first character of the first token
+     * @return the tokens of the String from the index on
+     */
+    private static String[] tokenize(String trimmedCommand, int beginIndex) {
+        int tokenAmount = 1;
+        for (int i = beginIndex; i < trimmedCommand.length(); i++) {
+            if (trimmedCommand.charAt(i) == COMMAND_SEPARATOR) {
+                tokenAmount++;
+            }
+        }
+        String[] tokens = new String[tokenAmount];
+        int tokenBegin = beginIndex;
+        for (int i = 0; i < tokenAmount - 1; i++) {
+            int tokenEnd = trimmedCommand.indexOf(COMMAND_SEPARATOR, tokenBegin);
+            tokens[i] = trimmedCommand.substring(tokenBegin, tokenEnd);
+            tokenBegin = tokenEnd + 1;
+        }
+        tokens[tokenAmount - 1] = trimmedCommand.substring(tokenBegin);
+        return tokens;
     }
 
     /**
@@ -82,19 +171,24 @@ public final class CommandHandler {
      */
     private void executeCommand(String commandName, Arguments commandArguments) {
         if (!commands.containsKey(commandName)) {
-            System.err.println(COMMAND_NOT_FOUND_FORMAT.formatted(commandName));
+            errorOutput.println(COMMAND_NOT_FOUND_FORMAT.formatted(commandName));
         } else if (commands.get(commandName).accessibilityPhase() != memory.getPhase()
                 && commands.get(commandName).accessibilityPhase() != Phase.BOTH) {
-            System.err.println(NOT_ACCESSIBLE.formatted(memory.getPhase()));
+            errorOutput.println(NOT_ACCESSIBLE.formatted(memory.getPhase()));
         } else {
+            long start = System.nanoTime();
             CommandResult result = commands.get(commandName).execute(memory, commandArguments);
             if (result.getMessage() != null) {
                 switch (result.getType()) {
-                    case SUCCESS -> System.out.println(result.getMessage());
-                    case FAILURE -> System.err.println(ERROR_PREFIX + result.getMessage());
+                    case SUCCESS -> output.println(result.getMessage());
+                    case FAILURE -> errorOutput.println(ERROR_PREFIX + result.getMessage());
                     default -> throw new IllegalStateException();
                 }
             }
+            Optional<Metrics> metrics = memory.getMetrics();
+            if (metrics.isPresent()) {
+                metrics.get().recordCommand(commandName, System.nanoTime() - start);
+            }
         }
     }
 
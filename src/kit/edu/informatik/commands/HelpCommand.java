@@ -17,22 +17,36 @@ public final class HelpCommand implements Command {
     private static final Phase ACCESSIBILITY_PHASE = Phase.BOTH;
     private static final String FORMAT = "input pattern: ";
     private static final Command[] COMMANDS = {new AddAICommand(),
-        new EndGameCommand(), new HelpCommand(), new NextCommand(), new QuitCommand(null),
-        new RemoveAICommand(), new SetInitModeCommand(), new ShowAICommand(), new ShowMemoryCommand(),
-        new StartGameCommand()
+        new EndGameCommand(), new HelpCommand(), new ImportAIsCommand(), new NextCommand(), new QuitCommand(null),
+        new RemoveAICommand(), new ReplayCommand(), new RewindCommand(), new RunCommand(),
+        new SetInitModeCommand(), new ShowAICommand(), new ShowHeatmapCommand(), new ShowMemoryCommand(),
+        new StartGameCommand(), new StatsCommand(), new SweepSeedsCommand(), new TournamentCommand()
     };
     private static final String[] COMMAND_DESCRIPTIONS = {
         "Adding an AI with given names and AI commands, " + FORMAT + "add-ai <name> <ai-command>...",
         "Ending the game, listing all running and stopped AIs, " + FORMAT + "end-game",
         "Listing all currently available commands, " + FORMAT + "help",
+        "Adding the AIs of a program file or of every program file in a directory, named after their files, "
+                + FORMAT + "import-ais <file-or-directory>",
         "Executes a given amount of steps in the game, " + FORMAT + "next <number>",
         "Quits the game, " + FORMAT + "quit",
         "Removes an existing AI with a given name, " + FORMAT + "remove-ai <name>",
+        "Shows the state of a recorded game after a given amount of steps from its journal, "
+                + FORMAT + "replay <journal> <step>",
+        "Restores the state of the game from a given amount of steps ago, " + FORMAT + "rewind <steps>",
+        "Executes steps until at most one AI is running, the state of the game repeats as a provable draw "
+                + "or a given amount of steps has been executed, " + FORMAT + "run <max-steps>",
         "Setting the mode in which the memory is initialized, " + FORMAT + "set-init-mode <mode>",
         "Provides the status of an AI with a given name, " + FORMAT + "show-ai <name>",
+        "Provides how often an AI with a given name has executed, read and written each cell, with the option to list "
+                + "the counts of a section of the memory, " + FORMAT + "show-heatmap <name> <section>",
         "Provides the current status of the memory with the option to showcase a section of the memory, "
                 + FORMAT + "show-memory <section>",
-        "Starts the game with a selected group of AIs, " + FORMAT + "start-game <ai-name1> <ai-name2>..."
+        "Starts the game with a selected group of AIs, " + FORMAT + "start-game <ai-name1> <ai-name2>...",
+        "Lists the collected metrics of the engine and the latencies of the commands, " + FORMAT + "stats",
+        "Plays a group of AIs on every seed of a range of the random initialization for up to a given amount of steps, "
+                + FORMAT + "sweep-seeds <steps> <first-seed> <last-seed> <ai-name1> <ai-name2>...",
+        "Plays every AI against every other AI on both seats for up to a given amount of steps, " + FORMAT + "tournament <steps>"
     };
     private static final String DESCRIPTION_PATTERN = "%s: %s";
 
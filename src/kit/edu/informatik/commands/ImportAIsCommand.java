@@ -0,0 +1,156 @@
+package kit.edu.informatik.commands;
+
+import kit.edu.informatik.exceptions.InvalidArgumentException;
+import kit.edu.informatik.model.AIObject;
+import kit.edu.informatik.model.memory.Memory;
+import kit.edu.informatik.model.memory.Phase;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * The class models adding the AIs of a program file or of every program file in a directory to the game.
+ * The name of an AI is the name of its file without the extension, its program is scanned by the {@link AIProgramScanner}.
+ * The files are read and scanned in parallel, the AIs are added in the order of the file names.
+ * Implements interface {@link Command}.
+ *
+ * @author uqtwh
+ * @version 1.0
+ */
+public final class ImportAIsCommand implements Command {
+    private static final String UNREADABLE_PATH = "%s cannot be read.";
+    private static final String UNREADABLE_FILE = "file cannot be read.";
+    private static final String INVALID_NAME = "AI name \"%s\" must not contain \"%s\".";
+    private static final String EXISTING_NAME = "AI named \"%s\" does already exist.";
+    private static final String FILE_ERROR = "%s: %s";
+    private static final String IMPORTED = "Imported %d AIs.";
+    private static final String PARTIALLY_IMPORTED = "imported %d of %d AIs.";
+    private static final String INVALID_CHARACTER = " ";
+    private static final char EXTENSION_SEPARATOR = '.';
+    private static final Phase ACCESSIBILITY_PHASE = Phase.INITIALIZING;
+
+    /**
+     * Overriding the execute method from Interface {@link Command}.
+     * Adds the AIs of the program files at a given path to the memory.
+     * An AI whose file cannot be read or scanned, or whose name already exists, is not added and reported instead.
+     * @param memory           the {@link Memory memory} to execute the command on
+     * @param commandArguments the arguments of the command
+     * @return CommandResult of the execution with a {@link CommandResultType type} and a message, depending on the result
+     */
+    @Override
+    public CommandResult execute(Memory memory, Arguments commandArguments) {
+        try {
+            String path = commandArguments.nextString();
+            commandArguments.assertNoMoreArguments();
+            List<Path> files;
+            try {
+                files = listFiles(Path.of(path));
+            } catch (IOException | UncheckedIOException e) {
+                return new CommandResult(CommandResultType.FAILURE, UNREADABLE_PATH.formatted(path));
+            }
+
+            AIObject[] scannedAIs = new AIObject[files.size()];
+            String[] errors = new String[files.size()];
+            IntStream.range(0, files.size()).parallel().forEach(i -> {
+                try {
+                    scannedAIs[i] = scanFile(files.get(i), memory.getSize());
+                } catch (InvalidArgumentException e) {
+                    errors[i] = e.getMessage();
+                }
+            });
+
+            // Adding the AIs in the order of their files, as their names are only unique in that order
+            Set<String> names = new HashSet<>();
+            for (AIObject existingAI : memory.getAiList()) {
+                names.add(existingAI.getName());
+            }
+            int imported = 0;
+            StringJoiner fileErrors = new StringJoiner(System.lineSeparator());
+            for (int i = 0; i < files.size(); i++) {
+                if (errors[i] == null && !names.add(scannedAIs[i].getName())) {
+                    errors[i] = EXISTING_NAME.formatted(scannedAIs[i].getName());
+                }
+                if (errors[i] == null) {
+                    memory.addAI(scannedAIs[i]);
+                    imported++;
+                } else {
+                    fileErrors.add(FILE_ERROR.formatted(files.get(i).getFileName(), errors[i]));
+                }
+            }
+            if (imported < files.size()) {
+                fileErrors.add(PARTIALLY_IMPORTED.formatted(imported, files.size()));
+                return new CommandResult(CommandResultType.FAILURE, fileErrors.toString());
+            }
+            return new CommandResult(CommandResultType.SUCCESS, IMPORTED.formatted(imported));
+        } catch (InvalidArgumentException e) {
+            return new CommandResult(CommandResultType.FAILURE, e.getMessage());
+        }
+    }
+
+    /**
+     * Private helper method for {@link #execute(Memory, Arguments)}, listing the program files at a given path,
+     * which is either a single file or a directory whose regular files are listed, sorted by their names.
+     * @param path the path of the file or the directory
+     * @return the program files
+     * @throws IOException if the path cannot be read
+     */
+    private List<Path> listFiles(Path path) throws IOException {
+        if (!Files.isDirectory(path)) {
+            if (!Files.isReadable(path)) {
+                throw new IOException(path.toString());
+            }
+            return List.of(path);
+        }
+        try (Stream<Path> directory = Files.list(path)) {
+            return directory.filter(Files::isRegularFile).sorted().toList();
+        }
+    }
+
+    /**
+     * Private helper method for {@link #execute(Memory, Arguments)}, reading and scanning a program file
+     * and checking whether the AI can be played in the memory, as in {@link AddAICommand}.
+     * @param file       the program file
+     * @param memorySize size of the memory
+     * @return the AI of the program file
+     * @throws InvalidArgumentException if the file cannot be read or the AI is invalid
+     */
+    private AIObject scanFile(Path file, int memorySize) throws InvalidArgumentException {
+        String fileName = file.getFileName().toString();
+        int extension = fileName.lastIndexOf(EXTENSION_SEPARATOR);
+        String name = extension > 0 ? fileName.substring(0, extension) : fileName;
+        if (name.contains(INVALID_CHARACTER)) {
+            throw new InvalidArgumentException(INVALID_NAME.formatted(name, INVALID_CHARACTER));
+        }
+        String program;
+        try {
+            program = Files.readString(file, StandardCharsets.UTF_8);
+        } catch (IOException | UncheckedIOException e) {
+            throw new InvalidArgumentException(UNREADABLE_FILE);
+        }
+        AIObject scannedAI = AIProgramScanner.scan(name, program);
+        Optional<String> invalidCommands = AddAICommand.validateCommands(scannedAI, memorySize);
+        if (invalidCommands.isPresent()) {
+            throw new InvalidArgumentException(invalidCommands.get());
+        }
+        return scannedAI;
+    }
+
+    /**
+     * Returns the {@link #ACCESSIBILITY_PHASE} in which the command is accessible.
+     * @return accessibility phase
+     */
+    @Override
+    public Phase accessibilityPhase() {
+        return ACCESSIBILITY_PHASE;
+    }
+}
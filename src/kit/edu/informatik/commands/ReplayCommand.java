@@ -0,0 +1,57 @@
+package kit.edu.informatik.commands;
+
+import kit.edu.informatik.exceptions.InvalidArgumentException;
+import kit.edu.informatik.model.memory.Memory;
+import kit.edu.informatik.model.memory.Phase;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * The class models showing the state of a recorded game from its journal.
+ * Implements interface {@link Command}.
+ *
+ * @author uqtwh
+ * @version 1.0
+ */
+public final class ReplayCommand implements Command {
+    private static final String INVALID_STEP = "step has to be at least %d, %d found.";
+    private static final String UNREADABLE_JOURNAL = "journal %s cannot be read.";
+    private static final Phase ACCESSIBILITY_PHASE = Phase.BOTH;
+    private static final int MINIMUM_STEP = 0;
+
+    /**
+     * Overriding the execute method from Interface {@link Command}.
+     * Reconstructs the state of a recorded game after a given amount of steps.
+     * @param memory           the {@link Memory memory} to execute the command on
+     * @param commandArguments the arguments of the command
+     * @return CommandResult of the execution with a {@link CommandResultType type} and a message, depending on the result
+     */
+    @Override
+    public CommandResult execute(Memory memory, Arguments commandArguments) {
+        try {
+            String journal = commandArguments.nextString();
+            int step = commandArguments.nextInt();
+            commandArguments.assertNoMoreArguments();
+            if (step < MINIMUM_STEP) {
+                return new CommandResult(CommandResultType.FAILURE, INVALID_STEP.formatted(MINIMUM_STEP, step));
+            }
+            try {
+                return new CommandResult(CommandResultType.SUCCESS, memory.replayJournal(Path.of(journal), step));
+            } catch (IOException e) {
+                return new CommandResult(CommandResultType.FAILURE, UNREADABLE_JOURNAL.formatted(journal));
+            }
+        } catch (InvalidArgumentException e) {
+            return new CommandResult(CommandResultType.FAILURE, e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the {@link #ACCESSIBILITY_PHASE} in which the command is accessible.
+     * @return accessibility phase
+     */
+    @Override
+    public Phase accessibilityPhase() {
+        return ACCESSIBILITY_PHASE;
+    }
+}
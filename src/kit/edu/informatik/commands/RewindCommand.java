@@ -0,0 +1,56 @@
+package kit.edu.informatik.commands;
+
+import kit.edu.informatik.exceptions.InvalidArgumentException;
+import kit.edu.informatik.model.memory.Memory;
+import kit.edu.informatik.model.memory.Phase;
+
+import java.util.Optional;
+
+/**
+ * The class models rewinding the game to an earlier state.
+ * Implements interface {@link Command}.
+ *
+ * @author uqtwh
+ * @version 1.0
+ */
+public final class RewindCommand implements Command {
+    private static final String INVALID_STEPS = "number of steps has to be between %d and %d, %d found.";
+    private static final String HISTORY_DISABLED = "the history is not recorded, start the game with -Dcodefight.history=true.";
+    private static final Phase ACCESSIBILITY_PHASE = Phase.GAME;
+    private static final int MINIMUM_STEPS = 1;
+
+    /**
+     * Overriding the execute method from Interface {@link Command}.
+     * Restores the state of the game from a given amount of steps ago.
+     * @param memory           the {@link Memory memory} to execute the command on
+     * @param commandArguments the arguments of the command
+     * @return CommandResult of the execution with a {@link CommandResultType type} and a message, depending on the result
+     */
+    @Override
+    public CommandResult execute(Memory memory, Arguments commandArguments) {
+        try {
+            int steps = commandArguments.nextInt();
+            commandArguments.assertNoMoreArguments();
+            Optional<Long> rewindableSteps = memory.getRewindableSteps();
+            if (rewindableSteps.isEmpty()) {
+                return new CommandResult(CommandResultType.FAILURE, HISTORY_DISABLED);
+            }
+            if (steps < MINIMUM_STEPS || steps > rewindableSteps.get()) {
+                return new CommandResult(CommandResultType.FAILURE, INVALID_STEPS.formatted(
+                        MINIMUM_STEPS, rewindableSteps.get(), steps));
+            }
+            return new CommandResult(CommandResultType.SUCCESS, memory.rewind(steps));
+        } catch (InvalidArgumentException e) {
+            return new CommandResult(CommandResultType.FAILURE, e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the {@link #ACCESSIBILITY_PHASE} in which the command is accessible.
+     * @return accessibility phase
+     */
+    @Override
+    public Phase accessibilityPhase() {
+        return ACCESSIBILITY_PHASE;
+    }
+}
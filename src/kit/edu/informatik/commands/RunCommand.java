@@ -0,0 +1,48 @@
+package kit.edu.informatik.commands;
+
+import kit.edu.informatik.exceptions.InvalidArgumentException;
+import kit.edu.informatik.model.memory.Memory;
+import kit.edu.informatik.model.memory.Phase;
+
+/**
+ * The class models running the game until it is decided, its state repeats or a maximum amount of steps is reached.
+ * Implements interface {@link Command}.
+ *
+ * @author uqtwh
+ * @version 1.0
+ */
+public final class RunCommand implements Command {
+    private static final String INVALID_STEPS = "number of steps has to be at least %d, %d found.";
+    private static final Phase ACCESSIBILITY_PHASE = Phase.GAME;
+    private static final int MINIMUM_STEPS = 1;
+
+    /**
+     * Overriding the execute method from Interface {@link Command}.
+     * Runs the game until at most one AI is running, the state repeats or the given amount of steps is executed.
+     * @param memory           the {@link Memory memory} to execute the command on
+     * @param commandArguments the arguments of the command
+     * @return CommandResult of the execution with a {@link CommandResultType type} and a message, depending on the result
+     */
+    @Override
+    public CommandResult execute(Memory memory, Arguments commandArguments) {
+        try {
+            int steps = commandArguments.nextInt();
+            commandArguments.assertNoMoreArguments();
+            if (steps < MINIMUM_STEPS) {
+                return new CommandResult(CommandResultType.FAILURE, INVALID_STEPS.formatted(MINIMUM_STEPS, steps));
+            }
+            return new CommandResult(CommandResultType.SUCCESS, memory.run(steps));
+        } catch (InvalidArgumentException e) {
+            return new CommandResult(CommandResultType.FAILURE, e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the {@link #ACCESSIBILITY_PHASE} in which the command is accessible.
+     * @return accessibility phase
+     */
+    @Override
+    public Phase accessibilityPhase() {
+        return ACCESSIBILITY_PHASE;
+    }
+}
@@ -0,0 +1,66 @@
+package kit.edu.informatik.commands;
+
+import kit.edu.informatik.exceptions.InvalidArgumentException;
+import kit.edu.informatik.model.AIObject;
+import kit.edu.informatik.model.memory.Memory;
+import kit.edu.informatik.model.memory.Phase;
+
+import java.util.Optional;
+
+/**
+ * The class models showing how often an ai in the game has executed, read and written each cell of the memory.
+ * Implements interface {@link Command}.
+ *
+ * @author uqtwh
+ * @version 1.0
+ */
+public final class ShowHeatmapCommand implements Command {
+    private static final String INVALID_ARGUMENT = "AI named \"%s\" does not exist.";
+    private static final String ARGUMENTS_OUT_OF_BOUNDS = "argument %d is out of bounds of %d to %d.";
+    private static final String HEATMAPS_DISABLED = "heatmaps are not recorded, start the game with -Dcodefight.heatmaps=true.";
+    private static final Phase ACCESSIBILITY_PHASE = Phase.GAME;
+
+    /**
+     * Overriding the execute method from Interface {@link Command}.
+     * Shows the heatmaps of a given AI.
+     * @param memory           the {@link Memory memory} to execute the command on
+     * @param commandArguments the arguments of the command
+     * @return CommandResult of the execution with a {@link CommandResultType type} and a message, depending on the result
+     */
+    @Override
+    public CommandResult execute(Memory memory, Arguments commandArguments) {
+        try {
+            String name = commandArguments.nextString();
+            int index = -1;
+            // Validating possible arguments
+            if (commandArguments.getLength() > 1) {
+                index = commandArguments.nextInt();
+                if (index < 0 || index > memory.getSize() - 1) {
+                    return new CommandResult(CommandResultType.FAILURE, ARGUMENTS_OUT_OF_BOUNDS.formatted(index, 0, memory.getSize() - 1));
+                }
+            }
+            commandArguments.assertNoMoreArguments();
+
+            Optional<AIObject> currentAI = memory.getNameAI(name);
+            if (currentAI.isEmpty()) {
+                return new CommandResult(CommandResultType.FAILURE, INVALID_ARGUMENT.formatted(name));
+            }
+            Optional<String> heatmap = memory.getHeatmap(currentAI.get(), index);
+            if (heatmap.isEmpty()) {
+                return new CommandResult(CommandResultType.FAILURE, HEATMAPS_DISABLED);
+            }
+            return new CommandResult(CommandResultType.SUCCESS, heatmap.get());
+        } catch (InvalidArgumentException e) {
+            return new CommandResult(CommandResultType.FAILURE, e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the {@link #ACCESSIBILITY_PHASE} in which the command is accessible.
+     * @return accessibility phase
+     */
+    @Override
+    public Phase accessibilityPhase() {
+        return ACCESSIBILITY_PHASE;
+    }
+}
@@ -4,6 +4,8 @@ import kit.edu.informatik.exceptions.InvalidArgumentException;
 import kit.edu.informatik.model.memory.Memory;
 import kit.edu.informatik.model.memory.Phase;
 
+import java.util.Optional;
+
 /**
  * The class models showing the memory of the game.
  * Implements interface {@link Command}.
@@ -13,6 +15,7 @@ import kit.edu.informatik.model.memory.Phase;
  */
 public final class ShowMemoryCommand implements Command {
     private static final String ARGUMENTS_OUT_OF_BOUNDS = "argument %d is out of bounds of %d to %d.";
+    private static final String MEMORY_TOO_LARGE = "memory of %d cells is too large to be shown as a whole, use show-memory <index>.";
     private static final Phase ACCESSIBILITY_PHASE = Phase.GAME;
 
     /**
@@ -35,7 +38,11 @@ public final class ShowMemoryCommand implements Command {
             }
 
             commandArguments.assertNoMoreArguments();
-            return new CommandResult(CommandResultType.SUCCESS, memory.getMemory(index));
+            Optional<String> representation = memory.getMemory(index);
+            if (representation.isEmpty()) {
+                return new CommandResult(CommandResultType.FAILURE, MEMORY_TOO_LARGE.formatted(memory.getSize()));
+            }
+            return new CommandResult(CommandResultType.SUCCESS, representation.get());
         } catch (InvalidArgumentException e) {
             return new CommandResult(CommandResultType.FAILURE, e.getMessage());
         }
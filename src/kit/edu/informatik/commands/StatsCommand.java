@@ -0,0 +1,50 @@
+package kit.edu.informatik.commands;
+
+import kit.edu.informatik.exceptions.InvalidArgumentException;
+import kit.edu.informatik.model.memory.Memory;
+import kit.edu.informatik.model.memory.Phase;
+import kit.edu.informatik.model.metrics.Metrics;
+
+import java.util.Optional;
+
+/**
+ * The class models listing the collected {@link Metrics} of the engine and the command line interface.
+ * Implements interface {@link Command}.
+ *
+ * @author uqtwh
+ * @version 1.0
+ */
+public final class StatsCommand implements Command {
+    private static final String METRICS_DISABLED = "metrics are not collected, start the game with -Dcodefight.metrics=true.";
+    private static final Phase ACCESSIBILITY_PHASE = Phase.BOTH;
+
+    /**
+     * Overriding the execute method from Interface {@link Command}.
+     * Lists the collected metrics, one per line.
+     * @param memory           the {@link Memory memory} to execute the command on
+     * @param commandArguments the arguments of the command
+     * @return CommandResult of the execution with a {@link CommandResultType type} and a message, depending on the result
+     */
+    @Override
+    public CommandResult execute(Memory memory, Arguments commandArguments) {
+        try {
+            commandArguments.assertNoMoreArguments();
+            Optional<Metrics> metrics = memory.getMetrics();
+            if (metrics.isEmpty()) {
+                return new CommandResult(CommandResultType.FAILURE, METRICS_DISABLED);
+            }
+            return new CommandResult(CommandResultType.SUCCESS, metrics.get().report());
+        } catch (InvalidArgumentException e) {
+            return new CommandResult(CommandResultType.FAILURE, e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the {@link #ACCESSIBILITY_PHASE} in which the command is accessible.
+     * @return accessibility phase
+     */
+    @Override
+    public Phase accessibilityPhase() {
+        return ACCESSIBILITY_PHASE;
+    }
+}
@@ -0,0 +1,89 @@
+package kit.edu.informatik.commands;
+
+import kit.edu.informatik.exceptions.InvalidArgumentException;
+import kit.edu.informatik.model.AIObject;
+import kit.edu.informatik.model.batch.SeedSweep;
+import kit.edu.informatik.model.memory.Memory;
+import kit.edu.informatik.model.memory.Phase;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The class models playing a lineup of AIs on a range of seeds of the random initialization.
+ * Implements interface {@link Command}.
+ *
+ * @author uqtwh
+ * @version 1.0
+ */
+public final class SweepSeedsCommand implements Command {
+    private static final int LOWER_BOUND = -1337;
+    private static final int UPPER_BOUND = 1337;
+    private static final String OUT_OF_BOUNDS = "seed range %d to %d is not within bounds %d to %d.";
+    private static final String INVALID_STEPS = "number of steps has to be at least %d, %d found.";
+    private static final String INVALID_ARGUMENTS = "number of AIs has to be between %d and %d, %d found.";
+    private static final String INVALID_AI_NAME = "AI named \"%s\" does not exist.";
+    private static final String INVALID_AI_POSITION = "since there is an uneven amount of memory cells, "
+            + "the first player is only allowed to have %d commands";
+    private static final Phase ACCESSIBILITY_PHASE = Phase.INITIALIZING;
+    private static final int MINIMUM_AMOUNT_AIS = 2;
+    private static final int MINIMUM_STEPS = 1;
+    private static final int SWEEP_ARGUMENTS = 3;
+
+    /**
+     * Overriding the execute method from Interface {@link Command}.
+     * Plays the given AIs on every seed of the given range and reports the aggregated results.
+     * @param memory           the {@link Memory memory} to execute the command on
+     * @param commandArguments the arguments of the command
+     * @return CommandResult of the execution with a {@link CommandResultType type} and a message, depending on the result
+     */
+    @Override
+    public CommandResult execute(Memory memory, Arguments commandArguments) {
+        try {
+            int steps = commandArguments.nextInt();
+            int firstSeed = commandArguments.nextInt();
+            int lastSeed = commandArguments.nextInt();
+            if (steps < MINIMUM_STEPS) {
+                return new CommandResult(CommandResultType.FAILURE, INVALID_STEPS.formatted(MINIMUM_STEPS, steps));
+            }
+            if (firstSeed < LOWER_BOUND || lastSeed > UPPER_BOUND || firstSeed > lastSeed) {
+                return new CommandResult(CommandResultType.FAILURE, OUT_OF_BOUNDS.formatted(
+                        firstSeed, lastSeed, LOWER_BOUND, UPPER_BOUND));
+            }
+
+            // Checking for invalid amount of AIs
+            int amount = commandArguments.getLength() - SWEEP_ARGUMENTS;
+            if (amount < MINIMUM_AMOUNT_AIS || amount > memory.getMax()) {
+                return new CommandResult(CommandResultType.FAILURE, INVALID_ARGUMENTS.formatted(
+                        MINIMUM_AMOUNT_AIS, memory.getMax(), amount));
+            }
+
+            // Checking if AIs with the given names exist
+            List<AIObject> lineup = new ArrayList<>();
+            for (int i = 0; i < amount; i++) {
+                String name = commandArguments.nextString();
+                if (memory.getAI(name, memory.getAiList()).isEmpty()) {
+                    return new CommandResult(CommandResultType.FAILURE, INVALID_AI_NAME.formatted(name));
+                }
+                lineup.add(memory.getAI(name, memory.getAiList()).get());
+            }
+
+            int positionConstant = (int) Math.floor((double) memory.getSize() / lineup.size());
+            if (lineup.get(0).getCommands().size() > positionConstant) {
+                return new CommandResult(CommandResultType.FAILURE, INVALID_AI_POSITION.formatted(positionConstant));
+            }
+            return new CommandResult(CommandResultType.SUCCESS, new SeedSweep(memory, lineup, firstSeed, lastSeed, steps).play());
+        } catch (InvalidArgumentException e) {
+            return new CommandResult(CommandResultType.FAILURE, e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the {@link #ACCESSIBILITY_PHASE} in which the command is accessible.
+     * @return accessibility phase
+     */
+    @Override
+    public Phase accessibilityPhase() {
+        return ACCESSIBILITY_PHASE;
+    }
+}
@@ -0,0 +1,67 @@
+package kit.edu.informatik.commands;
+
+import kit.edu.informatik.exceptions.InvalidArgumentException;
+import kit.edu.informatik.model.AIObject;
+import kit.edu.informatik.model.batch.Tournament;
+import kit.edu.informatik.model.memory.Memory;
+import kit.edu.informatik.model.memory.Phase;
+
+/**
+ * The class models playing a round-robin tournament between all added AIs.
+ * Implements interface {@link Command}.
+ *
+ * @author uqtwh
+ * @version 1.0
+ */
+public final class TournamentCommand implements Command {
+    private static final String INVALID_AI_AMOUNT = "there have to be at least %d AIs for a tournament, %d found.";
+    private static final String INVALID_STEPS = "number of steps has to be at least %d, %d found.";
+    private static final String INVALID_AI_LENGTH = "AI named \"%s\" has %d commands, but only %d commands are allowed "
+            + "for the first of two players.";
+    private static final Phase ACCESSIBILITY_PHASE = Phase.INITIALIZING;
+    private static final int MINIMUM_AMOUNT_AIS = 2;
+    private static final int MINIMUM_STEPS = 1;
+
+    /**
+     * Overriding the execute method from Interface {@link Command}.
+     * Plays every added AI against every other added AI on both seats and reports the results.
+     * @param memory           the {@link Memory memory} to execute the command on
+     * @param commandArguments the arguments of the command
+     * @return CommandResult of the execution with a {@link CommandResultType type} and a message, depending on the result
+     */
+    @Override
+    public CommandResult execute(Memory memory, Arguments commandArguments) {
+        try {
+            int steps = commandArguments.nextInt();
+            commandArguments.assertNoMoreArguments();
+            if (steps < MINIMUM_STEPS) {
+                return new CommandResult(CommandResultType.FAILURE, INVALID_STEPS.formatted(MINIMUM_STEPS, steps));
+            }
+            if (memory.getAiList().size() < MINIMUM_AMOUNT_AIS) {
+                return new CommandResult(CommandResultType.FAILURE, INVALID_AI_AMOUNT.formatted(
+                        MINIMUM_AMOUNT_AIS, memory.getAiList().size()));
+            }
+
+            // Checking if every AI can be placed first, as in StartGameCommand
+            int positionConstant = (int) Math.floor((double) memory.getSize() / MINIMUM_AMOUNT_AIS);
+            for (AIObject currentAI : memory.getAiList()) {
+                if (currentAI.getCommands().size() > positionConstant) {
+                    return new CommandResult(CommandResultType.FAILURE, INVALID_AI_LENGTH.formatted(
+                            currentAI.getName(), currentAI.getCommands().size(), positionConstant));
+                }
+            }
+            return new CommandResult(CommandResultType.SUCCESS, new Tournament(memory, memory.getAiList(), steps).play());
+        } catch (InvalidArgumentException e) {
+            return new CommandResult(CommandResultType.FAILURE, e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the {@link #ACCESSIBILITY_PHASE} in which the command is accessible.
+     * @return accessibility phase
+     */
+    @Override
+    public Phase accessibilityPhase() {
+        return ACCESSIBILITY_PHASE;
+    }
+}
@@ -23,6 +23,11 @@ public enum UserCommands {
      */
     HELP,
 
+    /**
+     * Importing the AIs of program files.
+     */
+    IMPORT_AIS,
+
     /**
      * Executing AI commands.
      */
@@ -38,6 +43,21 @@ public enum UserCommands {
      */
     REMOVE_AI,
 
+    /**
+     * Replaying a recorded game from its journal.
+     */
+    REPLAY,
+
+    /**
+     * Rewinding the game by a given amount of steps.
+     */
+    REWIND,
+
+    /**
+     * Running the game until it is decided or a state repeats.
+     */
+    RUN,
+
     /**
      * Setting the initialization mode of the game.
      */
@@ -48,6 +68,11 @@ public enum UserCommands {
      */
     SHOW_AI,
 
+    /**
+     * Showing the heatmaps of an AI.
+     */
+    SHOW_HEATMAP,
+
     /**
      * Showing the status of the memory.
      */
@@ -56,7 +81,22 @@ public enum UserCommands {
     /**
      * Starting a new game.
      */
-    START_GAME;
+    START_GAME,
+
+    /**
+     * Showing the collected metrics.
+     */
+    STATS,
+
+    /**
+     * Playing a lineup of AIs on a range of seeds.
+     */
+    SWEEP_SEEDS,
+
+    /**
+     * Playing a tournament between all AIs.
+     */
+    TOURNAMENT;
 
     private static final String ENUM_DELIMITER = "_";
     private static final String STRING_DELIMITER = "-";
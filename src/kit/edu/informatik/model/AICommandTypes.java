@@ -2,6 +2,10 @@ package kit.edu.informatik.model;
 
 import kit.edu.informatik.model.aicommands.AICommand;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
 /**
  * The enum represents the different types of {@link AICommand} an AI can execute.
  *
@@ -54,4 +58,22 @@ public enum AICommandTypes {
      * The command is SWAP.
      */
     SWAP;
+
+    private static final Map<String, AICommandTypes> NAMES = new HashMap<>();
+
+    static {
+        for (AICommandTypes commandType : values()) {
+            NAMES.put(commandType.name(), commandType);
+        }
+    }
+
+    /**
+     * Returns an {@link Optional} of the command type with a given name, looked up in a map instead of
+     * scanning all command types.
+     * @param name the name of the command type
+     * @return Optional of the command type or an empty Optional if no command type has the name
+     */
+    public static Optional<AICommandTypes> fromName(String name) {
+        return Optional.ofNullable(NAMES.get(name));
+    }
 }
@@ -11,21 +11,30 @@ import kit.edu.informatik.model.aicommands.MovRCommand;
 import kit.edu.informatik.model.aicommands.StopCommand;
 import kit.edu.informatik.model.aicommands.SwapCommand;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The class is used to instantiate the different {@link AICommand} objects.
+ * As commands are immutable, every command is interned: identical commands, equal in their type and entries,
+ * are the same instance, so the programs of many AIs share their common commands.
  *
  * @author uqtwh
  * @version 1.0
  */
 public final class InstantiateCommand {
-    private static final Map<AICommandTypes, AICommand> COMMAND_MAP = new HashMap<>();
-    private static final AICommand[] COMMANDS = {new StopCommand(), new MovRCommand(), new MovICommand(),
-        new AddCommand(), new AddRCommand(), new JmpCommand(), new JmzCommand(), new CmpCommand(),
-        new SwapCommand()
+    private static final AICommand[] PROTOTYPES = {new StopCommand(0, 0), new MovRCommand(0, 0), new MovICommand(0, 0),
+        new AddCommand(0, 0), new AddRCommand(0, 0), new JmpCommand(0, 0), new JmzCommand(0, 0), new CmpCommand(0, 0),
+        new SwapCommand(0, 0)
     };
+    private static final long ENTRY_MASK = 0xFFFFFFFFL;
+    private static final List<Map<Long, AICommand>> INTERNED_COMMANDS = new ArrayList<>();
+
+    static {
+        initCommands();
+    }
 
     /**
      * Private constructor to prevent instantiation.
@@ -35,26 +44,33 @@ public final class InstantiateCommand {
     }
 
     /**
-     * Instantiates a new {@link AICommand} object.
+     * Returns the {@link AICommand} with a given type and given entries, which is only created
+     * if no identical command has been instantiated before.
      * @param commandType the type of the command
      * @param entryA      the first entry
      * @param entryB      the second entry
-     * @return the new AICommand
+     * @return the AICommand
      */
     public static AICommand instantiateCommand(AICommandTypes commandType, int entryA, int entryB) {
-        initCommands();
-        AICommand result = COMMAND_MAP.get(commandType).copy();
-        result.setEntryA(entryA);
-        result.setEntryB(entryB);
+        Map<Long, AICommand> internedCommands = INTERNED_COMMANDS.get(commandType.ordinal());
+        long entries = (long) entryA << Integer.SIZE | (entryB & ENTRY_MASK);
+        AICommand result = internedCommands.get(entries);
+        if (result == null) {
+            result = internedCommands.computeIfAbsent(entries,
+                    ignored -> PROTOTYPES[commandType.ordinal()].withEntries(entryA, entryB));
+        }
         return result;
     }
 
     /**
-     * Initializes the command map.
+     * Initializes one table of interned commands per {@link AICommandTypes} once,
+     * so that commands can be instantiated by multiple games and imports in parallel.
      */
     private static void initCommands() {
-        for (int i = 0; i < AICommandTypes.values().length; i++) {
-            COMMAND_MAP.put(AICommandTypes.values()[i], COMMANDS[i]);
+        for (AICommand prototype : PROTOTYPES) {
+            Map<Long, AICommand> internedCommands = new ConcurrentHashMap<>();
+            internedCommands.put(0L, prototype);
+            INTERNED_COMMANDS.add(internedCommands);
         }
     }
 }
@@ -2,36 +2,44 @@ package kit.edu.informatik.model.aicommands;
 
 import kit.edu.informatik.model.AICommandTypes;
 import kit.edu.informatik.model.AIObject;
-import kit.edu.informatik.model.memory.MemoryCell;
+import kit.edu.informatik.model.InstantiateCommand;
+import kit.edu.informatik.model.memory.MemoryArena;
 
 /**
  * The class AICommand is an abstract Superclass to represent a command of an AI.
+ * Commands are immutable, so that identical commands can be shared, see {@link InstantiateCommand}.
  *
  * @author uqtwh
  * @version 1.0
  */
 public abstract class AICommand {
-    private int entryA;
-    private int entryB;
+    private final int entryA;
+    private final int entryB;
 
     /**
      * Constructor of the AICommand.
+     * @param entryA first entry A
+     * @param entryB second entry B
      */
-    protected AICommand() {
+    protected AICommand(int entryA, int entryB) {
+        this.entryA = entryA;
+        this.entryB = entryB;
     }
 
     /**
-     * Method to create a copy of the AICommand.
-     * @return copy of the AICommand
+     * Method to create an AICommand of the same command type with given entries.
+     * @param entryA first entry A of the new AICommand
+     * @param entryB second entry B of the new AICommand
+     * @return the new AICommand
      */
-    public abstract AICommand copy();
+    public abstract AICommand withEntries(int entryA, int entryB);
 
     /**
      * Method to execute the AICommand.
-     * @param currentAI    current AI
-     * @param memoryCells  memory cells
+     * @param currentAI   current AI
+     * @param memoryArena memory arena
      */
-    public abstract void execute(AIObject currentAI, MemoryCell[] memoryCells);
+    public abstract void execute(AIObject currentAI, MemoryArena memoryArena);
 
     /**
      * Method to get the command type of the AICommand.
@@ -47,14 +55,6 @@ public abstract class AICommand {
         return entryA;
     }
 
-    /**
-     * Setter of the {@link #entryA}.
-     * @param entryA new first entry A
-     */
-    public void setEntryA(int entryA) {
-        this.entryA = entryA;
-    }
-
     /**
      * Getter of the {@link #entryB}.
      * @return second entry B
@@ -64,25 +64,17 @@ public abstract class AICommand {
     }
 
     /**
-     * Setter of the {@link #entryB}.
-     * @param entryB new second entry B
-     */
-    public void setEntryB(int entryB) {
-        this.entryB = entryB;
-    }
-
-    /**
-     * Protected helper method for {@link #execute(AIObject, MemoryCell[])}, setting the symbol of a given index.
-     * @param index        index to set the symbol for
-     * @param currentAI    current AI
-     * @param memoryCells  memory cells
+     * Protected helper method for {@link #execute(AIObject, MemoryArena)}, marking the owner of a given index.
+     * @param index       index to set the owner for
+     * @param currentAI   current AI
+     * @param memoryArena memory arena
      */
-    protected void setSymbol(int index, AIObject currentAI, MemoryCell[] memoryCells) {
-        memoryCells[index].setSymbol(commandIsBomb(memoryCells[index].getAICommand()) ? currentAI.getBombSymbol() : currentAI.getSymbol());
+    protected void setSymbol(int index, AIObject currentAI, MemoryArena memoryArena) {
+        memoryArena.claim(index, currentAI.getOrder());
     }
 
     /**
-     * Protected helper method for {@link #execute(AIObject, MemoryCell[])}, calculating the cyclical index of a given index.
+     * Protected helper method for {@link #execute(AIObject, MemoryArena)}, calculating the cyclical index of a given index.
      * @param index      index to calculate the cyclical index for
      * @param moveBy     value to move the index by
      * @param memorySize size of the memory
@@ -92,15 +84,4 @@ public abstract class AICommand {
         int targetIndex = (index + moveBy) % memorySize;
         return targetIndex < 0 ? memorySize + targetIndex : targetIndex;
     }
-
-    /**
-     * Private helper method for {@link #setSymbol(int, AIObject, MemoryCell[])}, checking if a given command is a bomb.
-     * @param command command to check
-     * @return {@code true} if the command is a bomb, {@code false} otherwise
-     */
-    private boolean commandIsBomb(AICommand command) {
-        return command.getCommandType() == AICommandTypes.STOP
-                || (command.getCommandType() == AICommandTypes.JMP && command.getEntryA() == 0)
-                || (command.getCommandType() == AICommandTypes.JMZ && command.getEntryA() == 0 && command.getEntryB() == 0);
-    }
 }
@@ -2,7 +2,7 @@ package kit.edu.informatik.model.aicommands;
 
 import kit.edu.informatik.model.AICommandTypes;
 import kit.edu.informatik.model.AIObject;
-import kit.edu.informatik.model.memory.MemoryCell;
+import kit.edu.informatik.model.memory.MemoryArena;
 
 /**
  * The class models the ADD Command.
@@ -14,29 +14,37 @@ import kit.edu.informatik.model.memory.MemoryCell;
 public class AddCommand extends AICommand {
     private static final AICommandTypes COMMAND_TYPE = AICommandTypes.ADD;
 
+    /**
+     * Constructor of the class.
+     * @param entryA first entry A
+     * @param entryB second entry B
+     */
+    public AddCommand(int entryA, int entryB) {
+        super(entryA, entryB);
+    }
+
     /**
      * Adds the value of entryA of the current cell to the value of entryB of the current cell.
-     * @param currentAI    current AI
-     * @param memoryCells  memory
+     * @param currentAI   current AI
+     * @param memoryArena memory
      */
     @Override
-    public void execute(AIObject currentAI, MemoryCell[] memoryCells) {
-        AICommand command = memoryCells[currentAI.getIndex()].getAICommand();
-        command.setEntryB(command.getEntryA() + command.getEntryB());
+    public void execute(AIObject currentAI, MemoryArena memoryArena) {
+        int currentIndex = currentAI.getIndex();
+        memoryArena.setEntryB(currentIndex, memoryArena.getEntryA(currentIndex) + memoryArena.getEntryB(currentIndex));
 
-        setSymbol(currentAI.getIndex(), currentAI, memoryCells);
+        setSymbol(currentIndex, currentAI, memoryArena);
     }
 
     /**
      * {@inheritDoc}
+     * @param entryA {@inheritDoc}
+     * @param entryB {@inheritDoc}
      * @return {@inheritDoc}
      */
     @Override
-    public AICommand copy() {
-        AICommand result = new AddCommand();
-        result.setEntryA(this.getEntryA());
-        result.setEntryB(this.getEntryB());
-        return result;
+    public AICommand withEntries(int entryA, int entryB) {
+        return new AddCommand(entryA, entryB);
     }
 
     /**
@@ -2,7 +2,7 @@ package kit.edu.informatik.model.aicommands;
 
 import kit.edu.informatik.model.AICommandTypes;
 import kit.edu.informatik.model.AIObject;
-import kit.edu.informatik.model.memory.MemoryCell;
+import kit.edu.informatik.model.memory.MemoryArena;
 
 /**
  * The class models the ADD_R Command.
@@ -14,32 +14,39 @@ import kit.edu.informatik.model.memory.MemoryCell;
 public class AddRCommand extends AICommand {
     private static final AICommandTypes COMMAND_TYPE = AICommandTypes.ADD_R;
 
+    /**
+     * Constructor of the class.
+     * @param entryA first entry A
+     * @param entryB second entry B
+     */
+    public AddRCommand(int entryA, int entryB) {
+        super(entryA, entryB);
+    }
+
     /**
      * Adds the value of entryA of the current cell to the value of entryB of the target cell.
-     * TargetIndex is derived from the currentAI and the memoryCells.
-     * @param currentAI    current AI
-     * @param memoryCells  memory
+     * TargetIndex is derived from the currentAI and the memoryArena.
+     * @param currentAI   current AI
+     * @param memoryArena memory
      */
     @Override
-    public void execute(AIObject currentAI, MemoryCell[] memoryCells) {
-        int targetIndex = cyclicalIndex(currentAI.getIndex(), memoryCells[currentAI.getIndex()].getAICommand().getEntryB(),
-                memoryCells.length);
-        AICommand command = memoryCells[targetIndex].getAICommand();
-        command.setEntryB(memoryCells[currentAI.getIndex()].getAICommand().getEntryA() + command.getEntryB());
+    public void execute(AIObject currentAI, MemoryArena memoryArena) {
+        int currentIndex = currentAI.getIndex();
+        int targetIndex = cyclicalIndex(currentIndex, memoryArena.getEntryB(currentIndex), memoryArena.getSize());
+        memoryArena.setEntryB(targetIndex, memoryArena.getEntryA(currentIndex) + memoryArena.getEntryB(targetIndex));
 
-        setSymbol(targetIndex, currentAI, memoryCells);
+        setSymbol(targetIndex, currentAI, memoryArena);
     }
 
     /**
      * {@inheritDoc}
+     * @param entryA {@inheritDoc}
+     * @param entryB {@inheritDoc}
      * @return {@inheritDoc}
      */
     @Override
-    public AICommand copy() {
-        AICommand result = new AddRCommand();
-        result.setEntryA(this.getEntryA());
-        result.setEntryB(this.getEntryB());
-        return result;
+    public AICommand withEntries(int entryA, int entryB) {
+        return new AddRCommand(entryA, entryB);
     }
 
     /**
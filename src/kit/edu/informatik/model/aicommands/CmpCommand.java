@@ -2,7 +2,7 @@ package kit.edu.informatik.model.aicommands;
 
 import kit.edu.informatik.model.AICommandTypes;
 import kit.edu.informatik.model.AIObject;
-import kit.edu.informatik.model.memory.MemoryCell;
+import kit.edu.informatik.model.memory.MemoryArena;
 
 /**
  * The class models the CMP Command.
@@ -14,34 +14,42 @@ import kit.edu.informatik.model.memory.MemoryCell;
 public class CmpCommand extends AICommand {
     private static final AICommandTypes COMMAND_TYPE = AICommandTypes.CMP;
 
+    /**
+     * Constructor of the class.
+     * @param entryA first entry A
+     * @param entryB second entry B
+     */
+    public CmpCommand(int entryA, int entryB) {
+        super(entryA, entryB);
+    }
+
     /**
      * Checks if the value of entryA of the source cell is equal to the value of entryB of the target cell and skips
      * the next command if not.
-     * SourceIndex and targetIndex are derived from the currentAI and the memoryCells.
-     * @param currentAI    current AI
-     * @param memoryCells  memory
+     * SourceIndex and targetIndex are derived from the currentAI and the memoryArena.
+     * @param currentAI   current AI
+     * @param memoryArena memory
      */
     @Override
-    public void execute(AIObject currentAI, MemoryCell[] memoryCells) {
+    public void execute(AIObject currentAI, MemoryArena memoryArena) {
         int currenIndex = currentAI.getIndex();
-        int sourceIndex = cyclicalIndex(currenIndex, memoryCells[currenIndex].getAICommand().getEntryA(), memoryCells.length);
-        int targetIndex = cyclicalIndex(currenIndex, memoryCells[currenIndex].getAICommand().getEntryB(), memoryCells.length);
+        int sourceIndex = cyclicalIndex(currenIndex, memoryArena.getEntryA(currenIndex), memoryArena.getSize());
+        int targetIndex = cyclicalIndex(currenIndex, memoryArena.getEntryB(currenIndex), memoryArena.getSize());
 
-        if (memoryCells[sourceIndex].getAICommand().getEntryA() != memoryCells[targetIndex].getAICommand().getEntryB()) {
-            currentAI.setIndex(cyclicalIndex(currentAI.getIndex(), 1, memoryCells.length));
+        if (memoryArena.getEntryA(sourceIndex) != memoryArena.getEntryB(targetIndex)) {
+            currentAI.setIndex(cyclicalIndex(currentAI.getIndex(), 1, memoryArena.getSize()));
         }
     }
 
     /**
      * {@inheritDoc}
+     * @param entryA {@inheritDoc}
+     * @param entryB {@inheritDoc}
      * @return {@inheritDoc}
      */
     @Override
-    public AICommand copy() {
-        AICommand result = new CmpCommand();
-        result.setEntryA(this.getEntryA());
-        result.setEntryB(this.getEntryB());
-        return result;
+    public AICommand withEntries(int entryA, int entryB) {
+        return new CmpCommand(entryA, entryB);
     }
 
     /**
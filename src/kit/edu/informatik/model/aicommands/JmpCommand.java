@@ -2,7 +2,7 @@ package kit.edu.informatik.model.aicommands;
 
 import kit.edu.informatik.model.AICommandTypes;
 import kit.edu.informatik.model.AIObject;
-import kit.edu.informatik.model.memory.MemoryCell;
+import kit.edu.informatik.model.memory.MemoryArena;
 
 /**
  * The class models the JMP Command.
@@ -14,28 +14,36 @@ import kit.edu.informatik.model.memory.MemoryCell;
 public class JmpCommand extends AICommand {
     private static final AICommandTypes COMMAND_TYPE = AICommandTypes.JMP;
 
+    /**
+     * Constructor of the class.
+     * @param entryA first entry A
+     * @param entryB second entry B
+     */
+    public JmpCommand(int entryA, int entryB) {
+        super(entryA, entryB);
+    }
+
     /**
      * Executes the JMP Command, jumping to the targetIndex.
-     * TargetIndex is derived from the currentAI and the memoryCells.
+     * TargetIndex is derived from the currentAI and the memoryArena.
      * @param currentAI   current AI
-     * @param memoryCells memory
+     * @param memoryArena memory
      */
     @Override
-    public void execute(AIObject currentAI, MemoryCell[] memoryCells) {
+    public void execute(AIObject currentAI, MemoryArena memoryArena) {
         currentAI.setIndex(cyclicalIndex(currentAI.getIndex(),
-                memoryCells[currentAI.getIndex()].getAICommand().getEntryA() - 1, memoryCells.length));
+                memoryArena.getEntryA(currentAI.getIndex()) - 1, memoryArena.getSize()));
     }
 
     /**
      * {@inheritDoc}
+     * @param entryA {@inheritDoc}
+     * @param entryB {@inheritDoc}
      * @return {@inheritDoc}
      */
     @Override
-    public AICommand copy() {
-        AICommand result = new JmpCommand();
-        result.setEntryA(this.getEntryA());
-        result.setEntryB(this.getEntryB());
-        return result;
+    public AICommand withEntries(int entryA, int entryB) {
+        return new JmpCommand(entryA, entryB);
     }
 
     /**
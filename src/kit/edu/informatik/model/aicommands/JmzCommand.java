@@ -2,7 +2,7 @@ package kit.edu.informatik.model.aicommands;
 
 import kit.edu.informatik.model.AICommandTypes;
 import kit.edu.informatik.model.AIObject;
-import kit.edu.informatik.model.memory.MemoryCell;
+import kit.edu.informatik.model.memory.MemoryArena;
 
 /**
  * The class models the JMZ Command.
@@ -14,32 +14,40 @@ import kit.edu.informatik.model.memory.MemoryCell;
 public class JmzCommand extends AICommand {
     private static final AICommandTypes COMMAND_TYPE = AICommandTypes.JMZ;
 
+    /**
+     * Constructor of the class.
+     * @param entryA first entry A
+     * @param entryB second entry B
+     */
+    public JmzCommand(int entryA, int entryB) {
+        super(entryA, entryB);
+    }
+
     /**
      * Executes the JMZ Command, jumping to the targetIndex if the value of entryB of the checkcell is 0.
-     * TargetIndex is derived from the currentAI and the memoryCells.
+     * TargetIndex is derived from the currentAI and the memoryArena.
      * @param currentAI   current AI
-     * @param memoryCells memory
+     * @param memoryArena memory
      */
     @Override
-    public void execute(AIObject currentAI, MemoryCell[] memoryCells) {
+    public void execute(AIObject currentAI, MemoryArena memoryArena) {
         int currentIndex = currentAI.getIndex();
-        int checkcellIndex = cyclicalIndex(currentIndex, memoryCells[currentIndex].getAICommand().getEntryB(), memoryCells.length);
+        int checkcellIndex = cyclicalIndex(currentIndex, memoryArena.getEntryB(currentIndex), memoryArena.getSize());
 
-        if (memoryCells[checkcellIndex].getAICommand().getEntryB() == 0) {
-            currentAI.setIndex(cyclicalIndex(currentIndex, memoryCells[currentIndex].getAICommand().getEntryA() - 1, memoryCells.length));
+        if (memoryArena.getEntryB(checkcellIndex) == 0) {
+            currentAI.setIndex(cyclicalIndex(currentIndex, memoryArena.getEntryA(currentIndex) - 1, memoryArena.getSize()));
         }
     }
 
     /**
      * {@inheritDoc}
+     * @param entryA {@inheritDoc}
+     * @param entryB {@inheritDoc}
      * @return {@inheritDoc}
      */
     @Override
-    public AICommand copy() {
-        AICommand result = new JmzCommand();
-        result.setEntryA(this.getEntryA());
-        result.setEntryB(this.getEntryB());
-        return result;
+    public AICommand withEntries(int entryA, int entryB) {
+        return new JmzCommand(entryA, entryB);
     }
 
     /**
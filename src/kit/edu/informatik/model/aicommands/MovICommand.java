@@ -2,7 +2,7 @@ package kit.edu.informatik.model.aicommands;
 
 import kit.edu.informatik.model.AICommandTypes;
 import kit.edu.informatik.model.AIObject;
-import kit.edu.informatik.model.memory.MemoryCell;
+import kit.edu.informatik.model.memory.MemoryArena;
 
 /**
  * The class models the MOV_I Command.
@@ -14,35 +14,43 @@ import kit.edu.informatik.model.memory.MemoryCell;
 public class MovICommand extends AICommand {
     private static final AICommandTypes COMMAND_TYPE = AICommandTypes.MOV_I;
 
+    /**
+     * Constructor of the class.
+     * @param entryA first entry A
+     * @param entryB second entry B
+     */
+    public MovICommand(int entryA, int entryB) {
+        super(entryA, entryB);
+    }
+
     /**
      * Moves the AICommand from the sourceIndex to the targetIndex.
-     * SourceIndex and intermediateIndex are derived from the currentAI and the memoryCells.
+     * SourceIndex and intermediateIndex are derived from the currentAI and the memoryArena.
      * The targetIndex is derived from the intermediateIndex.
-     * @param currentAI    current AI
-     * @param memoryCells  memory
+     * @param currentAI   current AI
+     * @param memoryArena memory
      */
     @Override
-    public void execute(AIObject currentAI, MemoryCell[] memoryCells) {
+    public void execute(AIObject currentAI, MemoryArena memoryArena) {
         int currentIndex = currentAI.getIndex();
-        int sourceIndex = cyclicalIndex(currentIndex, memoryCells[currentIndex].getAICommand().getEntryA(), memoryCells.length);
-        int intermediateIndex = cyclicalIndex(currentIndex, memoryCells[currentIndex].getAICommand().getEntryB(), memoryCells.length);
-        int targetIndex = cyclicalIndex(intermediateIndex, memoryCells[intermediateIndex].getAICommand().getEntryB(), memoryCells.length);
+        int sourceIndex = cyclicalIndex(currentIndex, memoryArena.getEntryA(currentIndex), memoryArena.getSize());
+        int intermediateIndex = cyclicalIndex(currentIndex, memoryArena.getEntryB(currentIndex), memoryArena.getSize());
+        int targetIndex = cyclicalIndex(intermediateIndex, memoryArena.getEntryB(intermediateIndex), memoryArena.getSize());
 
-        memoryCells[targetIndex].setAICommand(memoryCells[sourceIndex].getAICommand().copy());
+        memoryArena.copyCommand(sourceIndex, targetIndex);
 
-        setSymbol(targetIndex, currentAI, memoryCells);
+        setSymbol(targetIndex, currentAI, memoryArena);
     }
 
     /**
      * {@inheritDoc}
+     * @param entryA {@inheritDoc}
+     * @param entryB {@inheritDoc}
      * @return {@inheritDoc}
      */
     @Override
-    public AICommand copy() {
-        AICommand result = new MovICommand();
-        result.setEntryA(this.getEntryA());
-        result.setEntryB(this.getEntryB());
-        return result;
+    public AICommand withEntries(int entryA, int entryB) {
+        return new MovICommand(entryA, entryB);
     }
 
     /**
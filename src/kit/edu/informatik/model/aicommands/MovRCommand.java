@@ -2,7 +2,7 @@ package kit.edu.informatik.model.aicommands;
 
 import kit.edu.informatik.model.AICommandTypes;
 import kit.edu.informatik.model.AIObject;
-import kit.edu.informatik.model.memory.MemoryCell;
+import kit.edu.informatik.model.memory.MemoryArena;
 
 /**
  * The class models the MOV_R Command.
@@ -14,33 +14,41 @@ import kit.edu.informatik.model.memory.MemoryCell;
 public class MovRCommand extends AICommand {
     private static final AICommandTypes COMMAND_TYPE = AICommandTypes.MOV_R;
 
+    /**
+     * Constructor of the class.
+     * @param entryA first entry A
+     * @param entryB second entry B
+     */
+    public MovRCommand(int entryA, int entryB) {
+        super(entryA, entryB);
+    }
+
     /**
      * Moves the AICommand from the sourceIndex to the targetIndex.
-     * SourceIndex and targetIndex are derived from the currentAI and the memoryCells.
-     * @param currentAI    current AI
-     * @param memoryCells  memory
+     * SourceIndex and targetIndex are derived from the currentAI and the memoryArena.
+     * @param currentAI   current AI
+     * @param memoryArena memory
      */
     @Override
-    public void execute(AIObject currentAI, MemoryCell[] memoryCells) {
+    public void execute(AIObject currentAI, MemoryArena memoryArena) {
         int currentIndex = currentAI.getIndex();
-        int sourceIndex = cyclicalIndex(currentIndex, memoryCells[currentIndex].getAICommand().getEntryA(), memoryCells.length);
-        int targetIndex = cyclicalIndex(currentIndex, memoryCells[currentIndex].getAICommand().getEntryB(), memoryCells.length);
+        int sourceIndex = cyclicalIndex(currentIndex, memoryArena.getEntryA(currentIndex), memoryArena.getSize());
+        int targetIndex = cyclicalIndex(currentIndex, memoryArena.getEntryB(currentIndex), memoryArena.getSize());
 
-        memoryCells[targetIndex].setAICommand(memoryCells[sourceIndex].getAICommand().copy());
+        memoryArena.copyCommand(sourceIndex, targetIndex);
 
-        setSymbol(targetIndex, currentAI, memoryCells);
+        setSymbol(targetIndex, currentAI, memoryArena);
     }
 
     /**
      * {@inheritDoc}
+     * @param entryA {@inheritDoc}
+     * @param entryB {@inheritDoc}
      * @return {@inheritDoc}
      */
     @Override
-    public AICommand copy() {
-        AICommand result = new MovRCommand();
-        result.setEntryA(this.getEntryA());
-        result.setEntryB(this.getEntryB());
-        return result;
+    public AICommand withEntries(int entryA, int entryB) {
+        return new MovRCommand(entryA, entryB);
     }
 
     /**
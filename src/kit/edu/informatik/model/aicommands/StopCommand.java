@@ -2,7 +2,7 @@ package kit.edu.informatik.model.aicommands;
 
 import kit.edu.informatik.model.AICommandTypes;
 import kit.edu.informatik.model.AIObject;
-import kit.edu.informatik.model.memory.MemoryCell;
+import kit.edu.informatik.model.memory.MemoryArena;
 
 /**
  * The class models the STOP Command.
@@ -14,26 +14,34 @@ import kit.edu.informatik.model.memory.MemoryCell;
 public class StopCommand extends AICommand {
     private static final AICommandTypes COMMAND_TYPE = AICommandTypes.STOP;
 
+    /**
+     * Constructor of the class.
+     * @param entryA first entry A
+     * @param entryB second entry B
+     */
+    public StopCommand(int entryA, int entryB) {
+        super(entryA, entryB);
+    }
+
     /**
      * Stops the AI.
      * @param currentAI current AI
      * @param ignored   memory
      */
     @Override
-    public void execute(AIObject currentAI, MemoryCell[] ignored) {
+    public void execute(AIObject currentAI, MemoryArena ignored) {
         currentAI.setRunning(false);
     }
 
     /**
      * {@inheritDoc}
+     * @param entryA {@inheritDoc}
+     * @param entryB {@inheritDoc}
      * @return {@inheritDoc}
      */
     @Override
-    public AICommand copy() {
-        AICommand result = new StopCommand();
-        result.setEntryA(this.getEntryA());
-        result.setEntryB(this.getEntryB());
-        return result;
+    public AICommand withEntries(int entryA, int entryB) {
+        return new StopCommand(entryA, entryB);
     }
 
     /**
@@ -2,7 +2,7 @@ package kit.edu.informatik.model.aicommands;
 
 import kit.edu.informatik.model.AICommandTypes;
 import kit.edu.informatik.model.AIObject;
-import kit.edu.informatik.model.memory.MemoryCell;
+import kit.edu.informatik.model.memory.MemoryArena;
 
 /**
  * The class models the SWAP Command.
@@ -14,36 +14,44 @@ import kit.edu.informatik.model.memory.MemoryCell;
 public class SwapCommand extends AICommand {
     private static final AICommandTypes COMMAND_TYPE = AICommandTypes.SWAP;
 
+    /**
+     * Constructor of the class.
+     * @param entryA first entry A
+     * @param entryB second entry B
+     */
+    public SwapCommand(int entryA, int entryB) {
+        super(entryA, entryB);
+    }
+
     /**
      * Swaps entryA of sourceIndex with entryB of targetIndex.
-     * SourceIndex and targetIndex are derived from the currentAI and the memoryCells.
-     * @param currentAI    current AI
-     * @param memoryCells  memory
+     * SourceIndex and targetIndex are derived from the currentAI and the memoryArena.
+     * @param currentAI   current AI
+     * @param memoryArena memory
      */
     @Override
-    public void execute(AIObject currentAI, MemoryCell[] memoryCells) {
+    public void execute(AIObject currentAI, MemoryArena memoryArena) {
         int currentIndex = currentAI.getIndex();
-        int sourceIndex = cyclicalIndex(currentIndex, memoryCells[currentIndex].getAICommand().getEntryA(), memoryCells.length);
-        int targetIndex = cyclicalIndex(currentIndex, memoryCells[currentIndex].getAICommand().getEntryB(), memoryCells.length);
+        int sourceIndex = cyclicalIndex(currentIndex, memoryArena.getEntryA(currentIndex), memoryArena.getSize());
+        int targetIndex = cyclicalIndex(currentIndex, memoryArena.getEntryB(currentIndex), memoryArena.getSize());
 
-        int swap = memoryCells[sourceIndex].getAICommand().getEntryA();
-        memoryCells[sourceIndex].getAICommand().setEntryA(memoryCells[targetIndex].getAICommand().getEntryB());
-        memoryCells[targetIndex].getAICommand().setEntryB(swap);
+        int swap = memoryArena.getEntryA(sourceIndex);
+        memoryArena.setEntryA(sourceIndex, memoryArena.getEntryB(targetIndex));
+        memoryArena.setEntryB(targetIndex, swap);
 
-        setSymbol(sourceIndex, currentAI, memoryCells);
-        setSymbol(targetIndex, currentAI, memoryCells);
+        setSymbol(sourceIndex, currentAI, memoryArena);
+        setSymbol(targetIndex, currentAI, memoryArena);
     }
 
     /**
      * {@inheritDoc}
+     * @param entryA {@inheritDoc}
+     * @param entryB {@inheritDoc}
      * @return {@inheritDoc}
      */
     @Override
-    public AICommand copy() {
-        AICommand result = new SwapCommand();
-        result.setEntryA(this.getEntryA());
-        result.setEntryB(this.getEntryB());
-        return result;
+    public AICommand withEntries(int entryA, int entryB) {
+        return new SwapCommand(entryA, entryB);
     }
 
     /**
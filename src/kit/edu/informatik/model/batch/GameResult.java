@@ -0,0 +1,128 @@
+package kit.edu.informatik.model.batch;
+
+import kit.edu.informatik.model.AIObject;
+
+import java.util.List;
+
+/**
+ * The class represents the result of a game played without user interaction.
+ *
+ * @author uqtwh
+ * @version 1.0
+ */
+public final class GameResult {
+    private static final int NO_WINNER = -1;
+    private final int[] seats;
+    private final String[] names;
+    private final boolean[] survived;
+    private final int[] counters;
+    private final int[] territories;
+    private final int steps;
+
+    /**
+     * Constructor of the class.
+     * @param seats       indices of the playing AIs in their original list, in the order in which they have been added to the game
+     * @param gameAIs     the AIs of the finished game, in the order in which they have been added to the game
+     * @param territories amount of cells owned by each AI at the end of the game, in the same order
+     * @param steps       amount of executed turns
+     */
+    public GameResult(int[] seats, List<AIObject> gameAIs, int[] territories, int steps) {
+        this.seats = seats.clone();
+        this.names = new String[gameAIs.size()];
+        this.survived = new boolean[gameAIs.size()];
+        this.counters = new int[gameAIs.size()];
+        this.territories = territories.clone();
+        for (int i = 0; i < gameAIs.size(); i++) {
+            names[i] = gameAIs.get(i).getName();
+            survived[i] = gameAIs.get(i).getRunning();
+            counters[i] = gameAIs.get(i).getCounter();
+        }
+        this.steps = steps;
+    }
+
+    /**
+     * Returns the amount of AIs that played the game.
+     * @return amount of AIs
+     */
+    public int getSeatAmount() {
+        return seats.length;
+    }
+
+    /**
+     * Returns the index of the AI in its original list that played at a given seat.
+     * @param seat the seat, meaning the order in which the AI has been added to the game
+     * @return index of the AI
+     */
+    public int getAI(int seat) {
+        return seats[seat];
+    }
+
+    /**
+     * Returns the name of the AI at a given seat, which is unique within the game.
+     * @param seat the seat of the AI
+     * @return name of the AI in the game
+     */
+    public String getName(int seat) {
+        return names[seat];
+    }
+
+    /**
+     * Returns whether the AI at a given seat was still running at the end of the game.
+     * @param seat the seat of the AI
+     * @return {@code true} if the AI survived, otherwise {@code false}
+     */
+    public boolean hasSurvived(int seat) {
+        return survived[seat];
+    }
+
+    /**
+     * Returns the amount of commands the AI at a given seat has executed.
+     * @param seat the seat of the AI
+     * @return amount of executed commands
+     */
+    public int getCounter(int seat) {
+        return counters[seat];
+    }
+
+    /**
+     * Returns the amount of cells the AI at a given seat owned at the end of the game.
+     * @param seat the seat of the AI
+     * @return amount of owned cells
+     */
+    public int getTerritory(int seat) {
+        return territories[seat];
+    }
+
+    /**
+     * Returns the amount of turns executed in the game.
+     * @return amount of executed turns
+     */
+    public int getSteps() {
+        return steps;
+    }
+
+    /**
+     * Returns whether the game has a winner, which is the only AI still running at the end of the game.
+     * @return {@code true} if the game has a winner, otherwise {@code false}
+     */
+    public boolean hasWinner() {
+        return getWinner() != NO_WINNER;
+    }
+
+    /**
+     * Returns the seat of the winner, which is the only AI still running at the end of the game.
+     * @return seat of the winner or -1 if there is no winner
+     */
+    public int getWinner() {
+        int winner = NO_WINNER;
+        for (int seat = 0; seat < survived.length; seat++) {
+            if (survived[seat]) {
+                if (winner != NO_WINNER) {
+                    return NO_WINNER;
+                }
+                winner = seat;
+            }
+        }
+        return winner;
+    }
+}
@@ -0,0 +1,103 @@
+package kit.edu.informatik.model.batch;
+
+import kit.edu.informatik.model.AIObject;
+import kit.edu.informatik.model.memory.InitMode;
+import kit.edu.informatik.model.memory.Memory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.stream.IntStream;
+
+/**
+ * The class models playing the same lineup of AIs on a range of seeds of {@link InitMode#INIT_MODE_RANDOM}.
+ * Each seed is played in its own isolated memory, the seeds are played in parallel on the common fork-join pool.
+ *
+ * @author uqtwh
+ * @version 1.0
+ */
+public final class SeedSweep {
+    private static final String HEADER_PATTERN = "Seed sweep of %d seeds from %d to %d with up to %d steps each, "
+            + "%d steps per game on average.";
+    private static final String SUMMARY_PATTERN = "%s: %d wins, survived %d of %d games, %d steps per game on average, "
+            + "%d cells owned on average";
+    private static final String DRAW_PATTERN = "%d games without a winner";
+    private final Memory memory;
+    private final List<AIObject> lineup;
+    private final int firstSeed;
+    private final int lastSeed;
+    private final int maxSteps;
+
+    /**
+     * Constructor of the class.
+     * @param memory    the memory whose configuration the games are played with
+     * @param lineup    the AIs playing each game, in the order in which they are added to the game
+     * @param firstSeed first seed to play
+     * @param lastSeed  last seed to play
+     * @param maxSteps  maximum amount of turns per game
+     */
+    public SeedSweep(Memory memory, List<AIObject> lineup, int firstSeed, int lastSeed, int maxSteps) {
+        this.memory = memory;
+        this.lineup = new ArrayList<>(lineup);
+        this.firstSeed = firstSeed;
+        this.lastSeed = lastSeed;
+        this.maxSteps = maxSteps;
+    }
+
+    /**
+     * Plays the lineup on every seed and returns a report with the wins, survivals, average executed
+     * commands and average owned cells of each AI of the lineup.
+     * @return report of the sweep
+     */
+    public String play() {
+        List<GameResult> results = IntStream.rangeClosed(firstSeed, lastSeed)
+                .parallel()
+                .mapToObj(this::playGame)
+                .toList();
+
+        int[] wins = new int[lineup.size()];
+        int[] survivals = new int[lineup.size()];
+        long[] counters = new long[lineup.size()];
+        long[] territories = new long[lineup.size()];
+        long steps = 0;
+        int draws = 0;
+        for (GameResult result : results) {
+            steps += result.getSteps();
+            if (result.hasWinner()) {
+                wins[result.getWinner()]++;
+            } else {
+                draws++;
+            }
+            for (int seat = 0; seat < result.getSeatAmount(); seat++) {
+                survivals[seat] += result.hasSurvived(seat) ? 1 : 0;
+                counters[seat] += result.getCounter(seat);
+                territories[seat] += result.getTerritory(seat);
+            }
+        }
+
+        StringJoiner report = new StringJoiner(System.lineSeparator());
+        report.add(HEADER_PATTERN.formatted(results.size(), firstSeed, lastSeed, maxSteps, steps / results.size()));
+        for (int seat = 0; seat < lineup.size(); seat++) {
+            report.add(SUMMARY_PATTERN.formatted(results.get(0).getName(seat), wins[seat], survivals[seat], results.size(),
+                    counters[seat] / results.size(), territories[seat] / results.size()));
+        }
+        report.add(DRAW_PATTERN.formatted(draws));
+        return report.toString();
+    }
+
+    /**
+     * Private helper method for {@link #play()}, playing the lineup on a single seed in an isolated memory.
+     * @param seed seed of the initialization
+     * @return result of the game
+     */
+    private GameResult playGame(int seed) {
+        Memory game = memory.createIsolatedMemory();
+        game.setInitMode(InitMode.INIT_MODE_RANDOM);
+        game.setSeed(seed);
+        game.startGame(lineup);
+        int steps = game.play(maxSteps);
+        GameResult result = new GameResult(IntStream.range(0, lineup.size()).toArray(), game.getGameAIs(), game.getTerritories(), steps);
+        game.endGame();
+        return result;
+    }
+}
@@ -0,0 +1,134 @@
+package kit.edu.informatik.model.batch;
+
+import kit.edu.informatik.model.AIObject;
+import kit.edu.informatik.model.memory.Memory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.stream.IntStream;
+
+/**
+ * The class models a round-robin tournament between the AIs of a {@link Memory}.
+ * Every AI plays every other AI once on each seat, each game in its own isolated memory.
+ * The games are played in parallel on the common fork-join pool.
+ *
+ * @author uqtwh
+ * @version 1.0
+ */
+public final class Tournament {
+    private static final String HEADER_PATTERN = "Tournament of %d AIs with %d games of up to %d steps each.";
+    private static final String SUMMARY_PATTERN = "%s: %d wins, %d losses, %d draws, survived %d of %d games";
+    private static final String CELL_PATTERN = "%%%ds";
+    private static final String CELL_DELIMITER = " ";
+    private static final String DIAGONAL = "-";
+    private final Memory memory;
+    private final List<AIObject> aiList;
+    private final int maxSteps;
+
+    /**
+     * Constructor of the class.
+     * @param memory   the memory whose configuration the games are played with
+     * @param aiList   the AIs taking part in the tournament
+     * @param maxSteps maximum amount of turns per game
+     */
+    public Tournament(Memory memory, List<AIObject> aiList, int maxSteps) {
+        this.memory = memory;
+        this.aiList = new ArrayList<>(aiList);
+        this.maxSteps = maxSteps;
+    }
+
+    /**
+     * Plays all games of the tournament and returns a report with a matrix of the wins of each AI (row)
+     * against each other AI (column), followed by the wins, losses, draws and survivals of each AI.
+     * @return report of the tournament
+     */
+    public String play() {
+        int amount = aiList.size();
+        List<GameResult> results = IntStream.range(0, amount * amount)
+                .filter(game -> game / amount != game % amount)
+                .parallel()
+                .mapToObj(game -> playGame(game / amount, game % amount))
+                .toList();
+
+        int[][] wins = new int[amount][amount];
+        int[] draws = new int[amount];
+        int[] survivals = new int[amount];
+        int[] games = new int[amount];
+        for (GameResult result : results) {
+            for (int seat = 0; seat < result.getSeatAmount(); seat++) {
+                int ai = result.getAI(seat);
+                games[ai]++;
+                survivals[ai] += result.hasSurvived(seat) ? 1 : 0;
+                if (!result.hasWinner()) {
+                    draws[ai]++;
+                } else if (result.getWinner() != seat) {
+                    wins[result.getAI(result.getWinner())][ai]++;
+                }
+            }
+        }
+        return buildReport(results.size(), wins, draws, survivals, games);
+    }
+
+    /**
+     * Private helper method for {@link #play()}, playing a single game in an isolated memory.
+     * @param seats indices of the AIs in the order in which they are added to the game
+     * @return result of the game
+     */
+    private GameResult playGame(int... seats) {
+        Memory game = memory.createIsolatedMemory();
+        List<AIObject> lineup = new ArrayList<>();
+        for (int seat : seats) {
+            lineup.add(aiList.get(seat));
+        }
+        game.startGame(lineup);
+        int steps = game.play(maxSteps);
+        GameResult result = new GameResult(seats, game.getGameAIs(), game.getTerritories(), steps);
+        game.endGame();
+        return result;
+    }
+
+    /**
+     * Private helper method for {@link #play()}, building the report of the tournament.
+     * @param gameAmount amount of played games
+     * @param wins       wins of each AI against each other AI
+     * @param draws      draws of each AI
+     * @param survivals  games survived by each AI
+     * @param games      games played by each AI
+     * @return report of the tournament
+     */
+    private String buildReport(int gameAmount, int[][] wins, int[] draws, int[] survivals, int[] games) {
+        int width = DIAGONAL.length();
+        for (AIObject currentAI : aiList) {
+            width = Math.max(width, currentAI.getName().length());
+        }
+        String cell = CELL_PATTERN.formatted(width);
+
+        StringJoiner report = new StringJoiner(System.lineSeparator());
+        report.add(HEADER_PATTERN.formatted(aiList.size(), gameAmount, maxSteps));
+        StringJoiner header = new StringJoiner(CELL_DELIMITER);
+        header.add(cell.formatted(""));
+        for (AIObject currentAI : aiList) {
+            header.add(cell.formatted(currentAI.getName()));
+        }
+        report.add(header.toString());
+        for (int row = 0; row < aiList.size(); row++) {
+            StringJoiner line = new StringJoiner(CELL_DELIMITER);
+            line.add(cell.formatted(aiList.get(row).getName()));
+            for (int column = 0; column < aiList.size(); column++) {
+                line.add(cell.formatted(row == column ? DIAGONAL : String.valueOf(wins[row][column])));
+            }
+            report.add(line.toString());
+        }
+        for (int ai = 0; ai < aiList.size(); ai++) {
+            int totalWins = 0;
+            int losses = 0;
+            for (int opponent = 0; opponent < aiList.size(); opponent++) {
+                totalWins += wins[ai][opponent];
+                losses += wins[opponent][ai];
+            }
+            report.add(SUMMARY_PATTERN.formatted(aiList.get(ai).getName(), totalWins, losses, draws[ai], survivals[ai], games[ai]));
+        }
+        return report.toString();
+    }
+}
@@ -0,0 +1,45 @@
+package kit.edu.informatik.model.memory;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The class models the Flight Recorder event of an AI stopped during a game.
+ *
+ * @author uqtwh
+ * @version 1.0
+ */
+@Name("codefight.AIStopped")
+@Label("AI Stopped")
+@Category({"CodeFight", "Game"})
+@Description("An AI has been stopped")
+@StackTrace(false)
+final class AIStoppedEvent extends Event {
+    @Label("Name")
+    private String name;
+    @Label("Executed Steps")
+    @Description("Amount of steps the AI executed until stopping")
+    private int executedSteps;
+    @Label("Address")
+    @Description("Index of the cell at which the AI stopped")
+    private int address;
+
+    /**
+     * Commits the event with the given values, if it is enabled.
+     * @param name          name of the AI
+     * @param executedSteps amount of steps the AI executed until stopping
+     * @param address       index of the cell at which the AI stopped
+     */
+    void record(String name, int executedSteps, int address) {
+        if (shouldCommit()) {
+            this.name = name;
+            this.executedSteps = executedSteps;
+            this.address = address;
+            commit();
+        }
+    }
+}
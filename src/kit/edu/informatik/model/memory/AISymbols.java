@@ -0,0 +1,83 @@
+package kit.edu.informatik.model.memory;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * The class provides the pairs of symbol and bomb symbol of the AIs, indexed by their order in a game.
+ * The configured pairs are used first. Once they run out, further pairs are generated from the configured pairs
+ * in turn by appending the number of the round, so the AIs after the first two configured pairs {@code a A b B}
+ * get the symbols {@code a1 A1}, {@code b1 B1}, {@code a2 A2} and so on. A generated symbol that equals any other
+ * symbol is extended with {@link #COLLISION_SUFFIX} until it is unique.
+ * Pairs are only generated once they are requested.
+ *
+ * @author uqtwh
+ * @version 1.0
+ */
+final class AISymbols {
+    private static final String COLLISION_SUFFIX = "'";
+    private final String[] configured;
+    private final Set<String> usedSymbols = new HashSet<>();
+    private String[] pairs;
+    private int pairAmount;
+
+    /**
+     * Constructor of the class.
+     * @param symbols   standard representation symbols of the memory, which generated symbols must not equal
+     * @param aiSymbols configured symbols of the AIs, ordered as pairs of symbol and bomb symbol
+     */
+    AISymbols(String[] symbols, String[] aiSymbols) {
+        configured = aiSymbols.clone();
+        pairs = aiSymbols.clone();
+        pairAmount = aiSymbols.length / 2;
+        usedSymbols.addAll(Arrays.asList(symbols));
+        usedSymbols.addAll(Arrays.asList(aiSymbols));
+    }
+
+    /**
+     * Returns the symbol of the AI with a given order.
+     * @param order order of the AI
+     * @return symbol of the AI
+     */
+    String getSymbol(int order) {
+        ensurePairs(order + 1);
+        return pairs[2 * order];
+    }
+
+    /**
+     * Returns the bomb symbol of the AI with a given order.
+     * @param order order of the AI
+     * @return bomb symbol of the AI
+     */
+    String getBombSymbol(int order) {
+        ensurePairs(order + 1);
+        return pairs[2 * order + 1];
+    }
+
+    /**
+     * Private helper method, generating pairs until there are at least a given amount of pairs.
+     * @param amount amount of pairs
+     */
+    private void ensurePairs(int amount) {
+        if (amount <= pairAmount) {
+            return;
+        }
+        pairs = Arrays.copyOf(pairs, 2 * Math.max(amount, 2 * pairAmount));
+        int configuredPairs = configured.length / 2;
+        for (; pairAmount < amount; pairAmount++) {
+            int base = pairAmount % configuredPairs;
+            String suffix = String.valueOf(pairAmount / configuredPairs);
+            String symbol = configured[2 * base] + suffix;
+            String bombSymbol = configured[2 * base + 1] + suffix;
+            while (usedSymbols.contains(symbol) || usedSymbols.contains(bombSymbol)) {
+                symbol += COLLISION_SUFFIX;
+                bombSymbol += COLLISION_SUFFIX;
+            }
+            usedSymbols.add(symbol);
+            usedSymbols.add(bombSymbol);
+            pairs[2 * pairAmount] = symbol;
+            pairs[2 * pairAmount + 1] = bombSymbol;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package kit.edu.informatik.model.memory;
+
+/**
+ * The class caches the pristine cells of an initialized arena, so that repeated games of the same memory size and seed,
+ * as played by tournaments or repeated start-game commands, are initialized by bulk copies of a template
+ * instead of generating the same random commands again.
+ * The templates are owned by a {@link Memory} and shared with the memories isolated from it, and only one template
+ * is kept. A template is only created once the same memory size and seed are initialized twice in a row,
+ * so that games which never repeat a seed, as played by seed sweeps, initialize their arenas directly
+ * without replacing the template. The seed covers the init mode, as the STOP mode has the seed 0.
+ *
+ * @author uqtwh
+ * @version 1.0
+ */
+final class ArenaTemplates {
+    private static final int MAX_TEMPLATE_SIZE = 1 << 20;
+    private static final int INT_BITS = 32;
+    private static final long UNSIGNED_INT_MASK = 0xFFFFFFFFL;
+    private static final long NO_KEY = -1;
+    private long requestedKey = NO_KEY;
+    private long templateKey = NO_KEY;
+    private Template template;
+
+    /**
+     * Initializes an arena for a new game as {@link MemoryArena#initialize(int)} does, copying the cells from the
+     * cached template if it has the size of the arena and the seed. If the previous initialization had the same size
+     * and seed, the template is replaced by a copy of the initialized arena.
+     * Arenas larger than {@link #MAX_TEMPLATE_SIZE} are initialized directly, as their templates would occupy
+     * as much memory as the arenas themselves.
+     * @param memoryArena the arena to initialize
+     * @param seed        seed of the initialization
+     */
+    void initialize(MemoryArena memoryArena, int seed) {
+        int size = memoryArena.getSize();
+        if (size > MAX_TEMPLATE_SIZE) {
+            memoryArena.initialize(seed);
+            return;
+        }
+        long key = (long) size << INT_BITS | (seed & UNSIGNED_INT_MASK);
+        Template cachedTemplate;
+        boolean repeated;
+        synchronized (this) {
+            cachedTemplate = templateKey == key ? template : null;
+            repeated = requestedKey == key;
+            requestedKey = key;
+        }
+        if (cachedTemplate != null) {
+            memoryArena.restoreAllCells(cachedTemplate.opcodes, cachedTemplate.entriesA, cachedTemplate.entriesB,
+                    cachedTemplate.marks);
+            return;
+        }
+        memoryArena.initialize(seed);
+        if (repeated) {
+            // Copying the template outside of the lock, so that other memories are not blocked meanwhile
+            Template createdTemplate = new Template(memoryArena);
+            synchronized (this) {
+                templateKey = key;
+                template = createdTemplate;
+            }
+        }
+    }
+
+    /**
+     * The class holds the copied cells of an initialized arena, which are never modified afterwards.
+     */
+    private static final class Template {
+        private final byte[] opcodes;
+        private final int[] entriesA;
+        private final int[] entriesB;
+        private final short[] marks;
+
+        /**
+         * Constructor of the class, copying the cells of a freshly initialized arena.
+         * @param memoryArena the initialized arena
+         */
+        private Template(MemoryArena memoryArena) {
+            int size = memoryArena.getSize();
+            opcodes = new byte[size];
+            entriesA = new int[size];
+            entriesB = new int[size];
+            marks = new short[size];
+            memoryArena.copyCells(0, opcodes, entriesA, entriesB, marks);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package kit.edu.informatik.model.memory;
+
+/**
+ * The enum represents where the cells of a {@link MemoryArena} are stored.
+ *
+ * @author uqtwh
+ * @version 1.0
+ */
+public enum ArenaType {
+
+    /**
+     * The cells are stored in primitive arrays on the Java heap.
+     */
+    HEAP,
+
+    /**
+     * The cells are stored in direct buffers outside of the Java heap.
+     */
+    OFF_HEAP,
+
+    /**
+     * Only the written cells are stored, the initial commands of all other cells are computed when they are read.
+     */
+    LAZY;
+}
@@ -0,0 +1,35 @@
+package kit.edu.informatik.model.memory;
+
+/**
+ * This interface represents an observer of the commands stored in a {@link MemoryArena}.
+ *
+ * @author uqtwh
+ * @version 1.0
+ */
+public interface CellObserver {
+
+    /**
+     * Is called before the command of a cell is written, while the cell still holds its previous command and mark.
+     * By default, nothing happens.
+     * @param index index of the cell about to be written
+     */
+    default void cellWriting(int index) {
+    }
+
+    /**
+     * Is called after the command of a cell has been written.
+     * @param index index of the written cell
+     */
+    void cellWritten(int index);
+
+    /**
+     * Is called after the commands of all cells have been replaced at once, as when the arena is initialized
+     * for a new game without writing every cell. By default, every cell is reported as written.
+     * @param size amount of cells of the arena
+     */
+    default void allCellsWritten(int size) {
+        for (int i = 0; i < size; i++) {
+            cellWritten(i);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package kit.edu.informatik.model.memory;
+
+/**
+ * The class stores an immutable copy of a page of consecutive cells of a {@link MemoryArena}.
+ * A {@link GameHistory} copies a page before it is written for the first time after a snapshot,
+ * so that the page can be written back when the snapshot is restored.
+ *
+ * @author uqtwh
+ * @version 1.0
+ */
+final class CellPage {
+    private final int firstIndex;
+    private final byte[] opcodes;
+    private final int[] entriesA;
+    private final int[] entriesB;
+    private final short[] marks;
+
+    /**
+     * Constructor of the class, copying a range of cells of the given arena.
+     * @param memoryArena the memory arena to copy the cells from
+     * @param firstIndex  index of the first cell of the page
+     * @param length      amount of cells of the page
+     */
+    CellPage(MemoryArena memoryArena, int firstIndex, int length) {
+        this.firstIndex = firstIndex;
+        opcodes = new byte[length];
+        entriesA = new int[length];
+        entriesB = new int[length];
+        marks = new short[length];
+        memoryArena.copyCells(firstIndex, opcodes, entriesA, entriesB, marks);
+    }
+
+    /**
+     * Returns the index of the first cell of the page.
+     * @return index of the first cell
+     */
+    int getFirstIndex() {
+        return firstIndex;
+    }
+
+    /**
+     * Writes the copied cells back to the given arena.
+     * @param memoryArena the memory arena to restore the cells in
+     */
+    void restore(MemoryArena memoryArena) {
+        for (int i = 0; i < opcodes.length; i++) {
+            memoryArena.restoreCell(firstIndex + i, opcodes[i], entriesA[i], entriesB[i], marks[i]);
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package kit.edu.informatik.model.memory;
+
+import kit.edu.informatik.model.AIObject;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The class detects a repeated state of a game with Brent's algorithm.
+ * A checkpoint of the state is taken after a doubling amount of turns and each following state is compared to it,
+ * first by its {@link StateHash} and, if the hashes are equal, by the full state, so that a detected repetition is proven.
+ * As the game is deterministic, a repeated state means that the game repeats forever and ends in a draw.
+ * The cells are not copied at a checkpoint. Instead, a cell is journaled with its command right before it is written
+ * for the first time after the checkpoint, so that only the journaled cells can differ from the checkpoint
+ * and the memory of the detector only grows with the written cells, never with the size of the arena.
+ * The journal is an open-addressing hash set of the indices of the journaled cells next to parallel primitive arrays.
+ * Implements interface {@link CellObserver} to journal the cells before they are written.
+ *
+ * @author uqtwh
+ * @version 1.0
+ */
+final class CycleDetector implements CellObserver {
+    private static final int NO_CYCLE = -1;
+    private static final int INITIAL_CAPACITY = 1 << 6;
+    private static final int EMPTY = -1;
+    private final MemoryArena memoryArena;
+    private final TurnRing turnRing;
+    private final StateHash stateHash;
+    private int[] tableIndices;
+    private int[] cellIndices = new int[INITIAL_CAPACITY];
+    private byte[] opcodes = new byte[INITIAL_CAPACITY];
+    private int[] entriesA = new int[INITIAL_CAPACITY];
+    private int[] entriesB = new int[INITIAL_CAPACITY];
+    private int journaled;
+    private int[] orders = new int[0];
+    private int[] indices = new int[0];
+    private int checkpointTurn;
+    private long checkpointHash;
+    private long power = 1;
+    private long distance = 0;
+    private long cycleLength = NO_CYCLE;
+
+    /**
+     * Constructor of the class, taking the current state as the first checkpoint.
+     * @param memoryArena the memory arena of the game
+     * @param turnRing    the ring scheduling the turns of the running AIs
+     */
+    CycleDetector(MemoryArena memoryArena, TurnRing turnRing) {
+        this.memoryArena = memoryArena;
+        this.turnRing = turnRing;
+        stateHash = new StateHash(memoryArena);
+        stateHash.track(turnRing.asList());
+        tableIndices = new int[2 * INITIAL_CAPACITY];
+        checkpoint(stateHash.hash(turnRing.getTurn()));
+        memoryArena.addObserver(this);
+    }
+
+    /**
+     * Journals a cell about to be written with its command at the checkpoint,
+     * if it has not been journaled since the checkpoint.
+     * @param index index of the cell about to be written
+     */
+    @Override
+    public void cellWriting(int index) {
+        if (journaled == cellIndices.length) {
+            grow();
+        }
+        int mask = tableIndices.length - 1;
+        int position = (int) StateHash.mix(index) & mask;
+        while (tableIndices[position] != EMPTY) {
+            if (tableIndices[position] == index) {
+                return;
+            }
+            position = (position + 1) & mask;
+        }
+        tableIndices[position] = index;
+        cellIndices[journaled] = index;
+        opcodes[journaled] = (byte) memoryArena.getOpcode(index);
+        entriesA[journaled] = memoryArena.getEntryA(index);
+        entriesB[journaled] = memoryArena.getEntryB(index);
+        journaled++;
+    }
+
+    /**
+     * Does nothing, as the cells are journaled before they are written.
+     * @param index index of the written cell
+     */
+    @Override
+    public void cellWritten(int index) {
+    }
+
+    /**
+     * Compares the state after an executed turn to the checkpoint, moving the checkpoint if necessary.
+     * @param movedAI the AI which executed the turn
+     * @return {@code true} if the state repeats the checkpoint, otherwise {@code false}
+     */
+    boolean isRepeated(AIObject movedAI) {
+        distance++;
+        stateHash.moved(movedAI);
+        long hash = stateHash.hash(turnRing.getTurn());
+        if (hash == checkpointHash && equalsCheckpoint()) {
+            cycleLength = distance;
+            return true;
+        }
+        if (distance == power) {
+            checkpoint(hash);
+            power <<= 1;
+            distance = 0;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the length of the detected cycle.
+     * @return amount of turns after which the state repeats or -1 if no repetition has been detected
+     */
+    long getCycleLength() {
+        return cycleLength;
+    }
+
+    /**
+     * Stops tracking the state of the arena.
+     */
+    void detach() {
+        memoryArena.removeObserver(this);
+        stateHash.detach();
+    }
+
+    /**
+     * Private helper method, taking the current state as the new checkpoint by emptying the journal.
+     * @param hash hash of the state
+     */
+    private void checkpoint(long hash) {
+        List<AIObject> runningAIs = turnRing.asList();
+        Arrays.fill(tableIndices, EMPTY);
+        journaled = 0;
+        if (orders.length != runningAIs.size()) {
+            orders = new int[runningAIs.size()];
+            indices = new int[runningAIs.size()];
+        }
+        for (int i = 0; i < runningAIs.size(); i++) {
+            orders[i] = runningAIs.get(i).getOrder();
+            indices[i] = runningAIs.get(i).getIndex();
+        }
+        checkpointTurn = turnRing.getTurn();
+        checkpointHash = hash;
+    }
+
+    /**
+     * Private helper method, comparing the current state to the checkpoint.
+     * @return {@code true} if the states are equal, otherwise {@code false}
+     */
+    private boolean equalsCheckpoint() {
+        List<AIObject> runningAIs = turnRing.asList();
+        if (turnRing.getTurn() != checkpointTurn || runningAIs.size() != orders.length) {
+            return false;
+        }
+        for (int i = 0; i < orders.length; i++) {
+            if (runningAIs.get(i).getOrder() != orders[i] || runningAIs.get(i).getIndex() != indices[i]) {
+                return false;
+            }
+        }
+        for (int i = 0; i < journaled; i++) {
+            int index = cellIndices[i];
+            if (memoryArena.getOpcode(index) != opcodes[i] || memoryArena.getEntryA(index) != entriesA[i]
+                    || memoryArena.getEntryB(index) != entriesB[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Private helper method for {@link #cellWriting(int)}, doubling the capacity of the journal.
+     */
+    private void grow() {
+        int capacity = 2 * cellIndices.length;
+        cellIndices = Arrays.copyOf(cellIndices, capacity);
+        opcodes = Arrays.copyOf(opcodes, capacity);
+        entriesA = Arrays.copyOf(entriesA, capacity);
+        entriesB = Arrays.copyOf(entriesB, capacity);
+        tableIndices = new int[2 * capacity];
+        Arrays.fill(tableIndices, EMPTY);
+        int mask = tableIndices.length - 1;
+        for (int i = 0; i < journaled; i++) {
+            int position = (int) StateHash.mix(cellIndices[i]) & mask;
+            while (tableIndices[position] != EMPTY) {
+                position = (position + 1) & mask;
+            }
+            tableIndices[position] = cellIndices[i];
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package kit.edu.informatik.model.memory;
+
+import kit.edu.informatik.model.aicommands.AICommand;
+
+/**
+ * The enum represents the different ways the {@link Memory} executes the commands of the AIs.
+ *
+ * @author uqtwh
+ * @version 1.0
+ */
+public enum ExecutionMode {
+
+    /**
+     * The commands are executed by the corresponding {@link AICommand} objects.
+     */
+    OBJECT,
+
+    /**
+     * The commands are decoded from their opcodes and executed by a single switch.
+     */
+    SWITCH;
+}
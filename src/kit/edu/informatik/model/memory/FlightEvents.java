@@ -0,0 +1,30 @@
+package kit.edu.informatik.model.memory;
+
+import jdk.jfr.FlightRecorder;
+
+/**
+ * The class decides whether the Flight Recorder events of the games are created at all.
+ * Loading an event class registers and instruments it in the Flight Recorder, which takes longer than a whole game
+ * of the command line interface, so the event classes are only loaded and instantiated once a recording has been
+ * started, either with {@code -XX:StartFlightRecording} or later with {@code jcmd <pid> JFR.start}.
+ *
+ * @author uqtwh
+ * @version 1.0
+ */
+final class FlightEvents {
+
+    /**
+     * Private constructor, not accessible.
+     */
+    private FlightEvents() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns whether the Flight Recorder has been started in this process, so that events may be recorded.
+     * @return {@code true} if events may be recorded, otherwise {@code false}
+     */
+    static boolean isRecording() {
+        return FlightRecorder.isInitialized();
+    }
+}
@@ -0,0 +1,43 @@
+package kit.edu.informatik.model.memory;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The class models the Flight Recorder event of an ended game.
+ *
+ * @author uqtwh
+ * @version 1.0
+ */
+@Name("codefight.GameEnded")
+@Label("Game Ended")
+@Category({"CodeFight", "Game"})
+@Description("A game has been ended")
+@StackTrace(false)
+final class GameEndedEvent extends Event {
+    @Label("Steps")
+    private long steps;
+    @Label("Running AIs")
+    private int runningAIs;
+    @Label("Stopped AIs")
+    private int stoppedAIs;
+
+    /**
+     * Commits the event with the given values, if it is enabled.
+     * @param steps      amount of steps executed in the game
+     * @param runningAIs amount of AIs still running at the end of the game
+     * @param stoppedAIs amount of AIs stopped during the game
+     */
+    void record(long steps, int runningAIs, int stoppedAIs) {
+        if (shouldCommit()) {
+            this.steps = steps;
+            this.runningAIs = runningAIs;
+            this.stoppedAIs = stoppedAIs;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package kit.edu.informatik.model.memory;
+
+import kit.edu.informatik.model.AIObject;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The class records copy-on-write snapshots of a game.
+ * The arena is divided into pages, and a snapshot copies no cells when it is taken. Instead, a page is copied
+ * into the latest snapshot right before it is written for the first time after that snapshot, so the memory
+ * of the history only grows with the pages written during the game, never with the size of the arena.
+ * Restoring a snapshot writes back the copied pages of the snapshot and of all later snapshots, newest first.
+ * The oldest snapshots are dropped once more than {@link #MAX_SNAPSHOTS} snapshots
+ * or {@link #MAX_CHANGED_PAGES} copied pages are kept.
+ * Implements interface {@link CellObserver} to copy the pages before they are written.
+ *
+ * @author uqtwh
+ * @version 1.0
+ */
+final class GameHistory implements CellObserver {
+    private static final int PAGE_SHIFT = 6;
+    private static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+    private static final int WORD_SHIFT = 6;
+    private static final int MAX_SNAPSHOTS = 1024;
+    private static final int MAX_CHANGED_PAGES = 1 << 15;
+    private final MemoryArena memoryArena;
+    private final long[] copiedPages;
+    private final List<GameSnapshot> snapshots = new ArrayList<>();
+    private int changedPages;
+    private boolean restoring;
+
+    /**
+     * Constructor of the class, observing the given arena for cells about to be written.
+     * @param memoryArena the memory arena of the game
+     */
+    GameHistory(MemoryArena memoryArena) {
+        this.memoryArena = memoryArena;
+        int pages = (memoryArena.getSize() + PAGE_SIZE - 1) >>> PAGE_SHIFT;
+        copiedPages = new long[(pages + Long.SIZE - 1) >>> WORD_SHIFT];
+        memoryArena.addObserver(this);
+    }
+
+    /**
+     * Copies the page of a cell about to be written into the latest snapshot,
+     * if the page has not been copied since the snapshot was taken.
+     * @param index index of the cell about to be written
+     */
+    @Override
+    public void cellWriting(int index) {
+        int page = index >>> PAGE_SHIFT;
+        long bit = 1L << page;
+        if (restoring || snapshots.isEmpty() || (copiedPages[page >>> WORD_SHIFT] & bit) != 0) {
+            return;
+        }
+        copiedPages[page >>> WORD_SHIFT] |= bit;
+        int firstIndex = page << PAGE_SHIFT;
+        snapshots.get(snapshots.size() - 1).addChangedPage(
+                new CellPage(memoryArena, firstIndex, Math.min(PAGE_SIZE, memoryArena.getSize() - firstIndex)));
+        changedPages++;
+    }
+
+    /**
+     * Does nothing, as the pages are copied before they are written.
+     * @param index index of the written cell
+     */
+    @Override
+    public void cellWritten(int index) {
+    }
+
+    /**
+     * Does nothing, as all cells are only replaced at once when the arena is initialized, before the history is created.
+     * @param size amount of cells of the arena
+     */
+    @Override
+    public void allCellsWritten(int size) {
+    }
+
+    /**
+     * Takes a snapshot of the current state of the game, dropping the oldest snapshots if too many are kept.
+     * @param step       amount of steps executed in the game
+     * @param runningAIs the running AIs, in the order of their turns
+     * @param stoppedAIs the stopped AIs, in the order in which they have been stopped
+     * @param turn       index of the running AI whose turn it is
+     */
+    void record(long step, List<AIObject> runningAIs, List<AIObject> stoppedAIs, int turn) {
+        if (!snapshots.isEmpty()) {
+            clearCopiedPages(snapshots.get(snapshots.size() - 1));
+        }
+        snapshots.add(new GameSnapshot(step, runningAIs, stoppedAIs, turn));
+        while (snapshots.size() > 1 && (snapshots.size() > MAX_SNAPSHOTS || changedPages > MAX_CHANGED_PAGES)) {
+            changedPages -= snapshots.remove(0).getChangedPages().size();
+        }
+    }
+
+    /**
+     * Returns the amount of steps executed in the game when the oldest recorded snapshot was taken.
+     * @return amount of executed steps of the oldest snapshot, or an empty Optional if no snapshot exists
+     */
+    Optional<Long> getOldestStep() {
+        return snapshots.isEmpty() ? Optional.empty() : Optional.of(snapshots.get(0).getStep());
+    }
+
+    /**
+     * Restores the latest snapshot taken at or before a given step and discards all later snapshots.
+     * @param step       the step to restore the game to
+     * @param runningAIs list of running AIs to restore
+     * @param stoppedAIs list of stopped AIs to restore
+     * @return the restored snapshot
+     */
+    GameSnapshot restore(long step, List<AIObject> runningAIs, List<AIObject> stoppedAIs) {
+        int position = snapshots.size() - 1;
+        while (position > 0 && snapshots.get(position).getStep() > step) {
+            position--;
+        }
+        clearCopiedPages(snapshots.get(snapshots.size() - 1));
+        // Every page is copied once per snapshot, so the order within a snapshot does not matter
+        restoring = true;
+        try {
+            for (int i = snapshots.size() - 1; i >= position; i--) {
+                for (CellPage page : snapshots.get(i).getChangedPages()) {
+                    page.restore(memoryArena);
+                }
+            }
+        } finally {
+            restoring = false;
+        }
+        List<GameSnapshot> discarded = snapshots.subList(position + 1, snapshots.size());
+        for (GameSnapshot snapshot : discarded) {
+            changedPages -= snapshot.getChangedPages().size();
+        }
+        discarded.clear();
+        GameSnapshot snapshot = snapshots.get(position);
+        changedPages -= snapshot.getChangedPages().size();
+        snapshot.getChangedPages().clear();
+        snapshot.restoreAIs(runningAIs, stoppedAIs);
+        return snapshot;
+    }
+
+    /**
+     * Stops observing the arena.
+     */
+    void detach() {
+        memoryArena.removeObserver(this);
+    }
+
+    /**
+     * Private helper method, marking the pages copied into a given snapshot as not copied,
+     * so that only the pages written since the snapshot are visited instead of all pages of the arena.
+     * @param snapshot the latest snapshot
+     */
+    private void clearCopiedPages(GameSnapshot snapshot) {
+        for (CellPage page : snapshot.getChangedPages()) {
+            int pageIndex = page.getFirstIndex() >>> PAGE_SHIFT;
+            copiedPages[pageIndex >>> WORD_SHIFT] &= ~(1L << pageIndex);
+        }
+    }
+}
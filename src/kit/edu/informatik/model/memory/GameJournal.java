@@ -0,0 +1,312 @@
+package kit.edu.informatik.model.memory;
+
+import kit.edu.informatik.model.AIObject;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The class records a game as a binary journal, which can be read by the {@link JournalReader}.
+ * The journal starts with a header of the memory size, the arena type, the seed and the names of the AIs,
+ * followed by a record for every executed step, holding the order and new index of the acting AI, the order of the AI
+ * whose turn it is afterwards and every cell written during the step.
+ * Keyframes with the state of the AIs and every cell written since the start of the game are written periodically
+ * and indexed at the end of the journal, so that a reader can seek to any step without reading the journal
+ * from the start. The initial cells are not recorded, as the reader initializes them from the arena type and the seed,
+ * so the first keyframe only holds the programs of the AIs and journals of huge arenas stay small.
+ * All records are written through a single reused buffer.
+ * Implements interface {@link CellObserver} to collect the cells written during a step.
+ *
+ * @author uqtwh
+ * @version 1.0
+ */
+final class GameJournal implements CellObserver {
+    /**
+     * Magic number at the start of every journal.
+     */
+    static final int MAGIC = 0x43464A34;
+    /**
+     * Tag of a record of a step after which the acting AI is still running.
+     */
+    static final byte STEP = 1;
+    /**
+     * Tag of a record of a step in which the acting AI has been stopped.
+     */
+    static final byte STEP_STOPPED = 2;
+    /**
+     * Tag of a record of a written cell.
+     */
+    static final byte WRITE = 3;
+    /**
+     * Tag of a keyframe record.
+     */
+    static final byte KEYFRAME = 4;
+    /**
+     * Tag of the keyframe index at the end of the journal.
+     */
+    static final byte END = 5;
+    /**
+     * Size of the trailer of a closed journal, consisting of the offset of the keyframe index and the magic number.
+     */
+    static final int TRAILER_SIZE = Long.BYTES + Integer.BYTES;
+    private static final String FILE_NAME_PATTERN = "game-%d-%d.journal";
+    private static final AtomicLong JOURNAL_COUNTER = new AtomicLong();
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int CELL_BYTES = Byte.BYTES + Short.BYTES + 2 * Integer.BYTES;
+    private static final int STEP_BYTES = Byte.BYTES + 2 * Short.BYTES + Integer.BYTES;
+    private static final int INITIAL_CAPACITY = 1 << 6;
+    private static final int EMPTY = -1;
+    private final MemoryArena memoryArena;
+    private final List<AIObject> gameAIs;
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final List<long[]> keyframes = new ArrayList<>();
+    private int[] writtenCells = new int[2];
+    private int writtenAmount;
+    private int[] tableIndices = new int[2 * INITIAL_CAPACITY];
+    private int[] touchedCells = new int[INITIAL_CAPACITY];
+    private int touchedAmount;
+    private long position;
+
+    /**
+     * Private constructor of the class, use {@link #open(Path, MemoryArena, ArenaType, int, List)} instead.
+     * @param channel     the channel to write the journal to
+     * @param memoryArena the memory arena of the game
+     * @param gameAIs     the AIs of the game, in the order in which they have been added to the game
+     */
+    private GameJournal(FileChannel channel, MemoryArena memoryArena, List<AIObject> gameAIs) {
+        this.channel = channel;
+        this.memoryArena = memoryArena;
+        this.gameAIs = List.copyOf(gameAIs);
+        Arrays.fill(tableIndices, EMPTY);
+    }
+
+    /**
+     * Creates a new journal file in a given directory for a freshly initialized arena, writes its header
+     * and starts observing the arena for written cells. The first keyframe is written with {@link #keyframe(long, List, int)}
+     * once the programs of the AIs have been loaded into the arena.
+     * @param directory   directory to create the journal in
+     * @param memoryArena the memory arena of the game
+     * @param arenaType   where the cells of the arena are stored
+     * @param seed        seed the arena has been initialized with
+     * @param gameAIs     the AIs of the game, in the order in which they have been added to the game
+     * @return the journal
+     * @throws UncheckedIOException if the journal cannot be written
+     */
+    static GameJournal open(Path directory, MemoryArena memoryArena, ArenaType arenaType, int seed,
+                            List<AIObject> gameAIs) {
+        Path file = directory.resolve(FILE_NAME_PATTERN.formatted(ProcessHandle.current().pid(),
+                JOURNAL_COUNTER.getAndIncrement()));
+        try {
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            GameJournal journal = new GameJournal(channel, memoryArena, gameAIs);
+            journal.writeHeader(arenaType, seed);
+            memoryArena.addObserver(journal);
+            return journal;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Collects a written cell, which is recorded with the current step and with every following keyframe.
+     * @param index index of the written cell
+     */
+    @Override
+    public void cellWritten(int index) {
+        if (writtenAmount == writtenCells.length) {
+            writtenCells = Arrays.copyOf(writtenCells, 2 * writtenCells.length);
+        }
+        writtenCells[writtenAmount++] = index;
+        touch(index);
+    }
+
+    /**
+     * Records an executed step with the cells written during it.
+     * @param currentAI the AI which executed the step
+     * @param nextAI    the AI whose turn it is after the step or {@code null} if no AI is running
+     */
+    void step(AIObject currentAI, AIObject nextAI) {
+        ensureRemaining(STEP_BYTES);
+        buffer.put(currentAI.getRunning() ? STEP : STEP_STOPPED);
+        buffer.putShort((short) currentAI.getOrder());
+        buffer.putInt(currentAI.getIndex());
+        buffer.putShort((short) (nextAI == null ? -1 : nextAI.getOrder()));
+        for (int i = 0; i < writtenAmount; i++) {
+            ensureRemaining(Byte.BYTES + Integer.BYTES + CELL_BYTES);
+            buffer.put(WRITE);
+            buffer.putInt(writtenCells[i]);
+            putCell(writtenCells[i]);
+        }
+        writtenAmount = 0;
+    }
+
+    /**
+     * Records a keyframe with the state of the AIs and every cell written since the start of the game
+     * and adds it to the keyframe index. As the written cells are never forgotten, a keyframe is complete on its own,
+     * also after the game has been rewound. Keyframes of later steps are removed from the index,
+     * as the game has been rewound before them.
+     * @param step       amount of steps executed in the game
+     * @param runningAIs the running AIs, in the order of their turns
+     * @param turn       index of the running AI whose turn it is
+     */
+    void keyframe(long step, List<AIObject> runningAIs, int turn) {
+        keyframes.removeIf(keyframe -> keyframe[0] >= step);
+        keyframes.add(new long[] {step, position + buffer.position()});
+        ensureRemaining(Byte.BYTES + Long.BYTES + 2 * Integer.BYTES);
+        buffer.put(KEYFRAME);
+        buffer.putLong(step);
+        buffer.putInt(runningAIs.size());
+        buffer.putInt(turn);
+        for (AIObject currentAI : runningAIs) {
+            ensureRemaining(Short.BYTES);
+            buffer.putShort((short) currentAI.getOrder());
+        }
+        for (AIObject currentAI : gameAIs) {
+            ensureRemaining(Byte.BYTES + 2 * Integer.BYTES);
+            buffer.put((byte) (currentAI.getRunning() ? 1 : 0));
+            buffer.putInt(currentAI.getIndex());
+            buffer.putInt(currentAI.getCounter());
+        }
+        ensureRemaining(Integer.BYTES);
+        buffer.putInt(touchedAmount);
+        for (int i = 0; i < touchedAmount; i++) {
+            ensureRemaining(Integer.BYTES + CELL_BYTES);
+            buffer.putInt(touchedCells[i]);
+            putCell(touchedCells[i]);
+        }
+        writtenAmount = 0;
+    }
+
+    /**
+     * Writes the keyframe index and the trailer, closes the journal file and stops observing the arena.
+     * @throws UncheckedIOException if the journal cannot be written
+     */
+    void close() {
+        memoryArena.removeObserver(this);
+        long indexOffset = position + buffer.position();
+        ensureRemaining(Byte.BYTES + Integer.BYTES);
+        buffer.put(END);
+        buffer.putInt(keyframes.size());
+        for (long[] keyframe : keyframes) {
+            ensureRemaining(2 * Long.BYTES);
+            buffer.putLong(keyframe[0]);
+            buffer.putLong(keyframe[1]);
+        }
+        ensureRemaining(TRAILER_SIZE);
+        buffer.putLong(indexOffset);
+        buffer.putInt(MAGIC);
+        try {
+            flush();
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Private helper method for {@link #open(Path, MemoryArena, ArenaType, int, List)}, writing the header of the journal.
+     * @param arenaType where the cells of the arena are stored
+     * @param seed      seed the arena has been initialized with
+     */
+    private void writeHeader(ArenaType arenaType, int seed) {
+        ensureRemaining(Byte.BYTES + 4 * Integer.BYTES);
+        buffer.putInt(MAGIC);
+        buffer.putInt(memoryArena.getSize());
+        buffer.put((byte) arenaType.ordinal());
+        buffer.putInt(seed);
+        buffer.putInt(gameAIs.size());
+        for (AIObject currentAI : gameAIs) {
+            byte[] name = currentAI.getName().getBytes(StandardCharsets.UTF_8);
+            ensureRemaining(Short.BYTES + name.length);
+            buffer.putShort((short) name.length);
+            buffer.put(name);
+        }
+    }
+
+    /**
+     * Private helper method for {@link #cellWritten(int)}, adding a cell to the cells written since the start
+     * of the game, if it has not been written before.
+     * @param index index of the written cell
+     */
+    private void touch(int index) {
+        if (touchedAmount == touchedCells.length) {
+            grow();
+        }
+        int mask = tableIndices.length - 1;
+        int position = (int) StateHash.mix(index) & mask;
+        while (tableIndices[position] != EMPTY) {
+            if (tableIndices[position] == index) {
+                return;
+            }
+            position = (position + 1) & mask;
+        }
+        tableIndices[position] = index;
+        touchedCells[touchedAmount++] = index;
+    }
+
+    /**
+     * Private helper method for {@link #touch(int)}, doubling the capacity of the written cells.
+     */
+    private void grow() {
+        touchedCells = Arrays.copyOf(touchedCells, 2 * touchedCells.length);
+        tableIndices = new int[2 * touchedCells.length];
+        Arrays.fill(tableIndices, EMPTY);
+        int mask = tableIndices.length - 1;
+        for (int i = 0; i < touchedAmount; i++) {
+            int position = (int) StateHash.mix(touchedCells[i]) & mask;
+            while (tableIndices[position] != EMPTY) {
+                position = (position + 1) & mask;
+            }
+            tableIndices[position] = touchedCells[i];
+        }
+    }
+
+    /**
+     * Private helper method, writing the command and the mark of a cell to the buffer.
+     * @param index index of the cell
+     */
+    private void putCell(int index) {
+        buffer.put((byte) memoryArena.getOpcode(index));
+        buffer.putInt(memoryArena.getEntryA(index));
+        buffer.putInt(memoryArena.getEntryB(index));
+        buffer.putShort(memoryArena.loadMark(index));
+    }
+
+    /**
+     * Private helper method, writing the buffer to the journal file if it cannot hold a given amount of bytes.
+     * @param bytes amount of bytes to be put into the buffer
+     * @throws UncheckedIOException if the journal cannot be written
+     */
+    private void ensureRemaining(int bytes) {
+        if (buffer.remaining() < bytes) {
+            try {
+                flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Private helper method, writing the content of the buffer to the journal file and clearing the buffer.
+     * @throws IOException if the journal cannot be written
+     */
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
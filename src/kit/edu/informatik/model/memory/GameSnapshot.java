@@ -0,0 +1,108 @@
+package kit.edu.informatik.model.memory;
+
+import kit.edu.informatik.model.AIObject;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The class represents the state of a game after a given amount of steps, consisting of
+ * the running and stopped AIs with their indices, counters and running states and the turn index.
+ * The cells of the {@link MemoryArena} are not copied; instead, the snapshot collects the pages which are written
+ * after it has been taken, in the state they had when it was taken.
+ *
+ * @author uqtwh
+ * @version 1.0
+ */
+final class GameSnapshot {
+    private final long step;
+    private final List<CellPage> changedPages = new ArrayList<>();
+    private final AIObject[] runningAIs;
+    private final AIObject[] stoppedAIs;
+    private final int[] indices;
+    private final int[] counters;
+    private final boolean[] running;
+    private final int turn;
+
+    /**
+     * Constructor of the class, copying the state of the AIs.
+     * @param step       amount of steps executed in the game
+     * @param runningAIs the running AIs, in the order of their turns
+     * @param stoppedAIs the stopped AIs, in the order in which they have been stopped
+     * @param turn       index of the running AI whose turn it is
+     */
+    GameSnapshot(long step, List<AIObject> runningAIs, List<AIObject> stoppedAIs, int turn) {
+        this.step = step;
+        this.runningAIs = runningAIs.toArray(new AIObject[0]);
+        this.stoppedAIs = stoppedAIs.toArray(new AIObject[0]);
+        this.indices = new int[this.runningAIs.length + this.stoppedAIs.length];
+        this.counters = new int[indices.length];
+        this.running = new boolean[indices.length];
+        for (int i = 0; i < indices.length; i++) {
+            AIObject currentAI = getAI(i);
+            indices[i] = currentAI.getIndex();
+            counters[i] = currentAI.getCounter();
+            running[i] = currentAI.getRunning();
+        }
+        this.turn = turn;
+    }
+
+    /**
+     * Returns the amount of steps executed in the game when the snapshot was taken.
+     * @return amount of executed steps
+     */
+    long getStep() {
+        return step;
+    }
+
+    /**
+     * Adds a page in the state it had when the snapshot was taken, before it is written for the first time afterwards.
+     * @param page copy of the page
+     */
+    void addChangedPage(CellPage page) {
+        changedPages.add(page);
+    }
+
+    /**
+     * Returns the pages written since the snapshot has been taken, in the state they had when it was taken.
+     * @return modifiable list of the changed pages
+     */
+    List<CellPage> getChangedPages() {
+        return changedPages;
+    }
+
+    /**
+     * Returns the index of the running AI whose turn it was.
+     * @return turn index
+     */
+    int getTurn() {
+        return turn;
+    }
+
+    /**
+     * Restores the indices, counters and running states of the AIs and the lists of running and stopped AIs.
+     * @param currentRunningAIs list of running AIs to restore
+     * @param currentStoppedAIs list of stopped AIs to restore
+     */
+    void restoreAIs(List<AIObject> currentRunningAIs, List<AIObject> currentStoppedAIs) {
+        for (int i = 0; i < indices.length; i++) {
+            AIObject currentAI = getAI(i);
+            currentAI.setIndex(indices[i]);
+            currentAI.setCounter(counters[i] - currentAI.getCounter());
+            currentAI.setRunning(running[i]);
+        }
+        currentRunningAIs.clear();
+        currentRunningAIs.addAll(List.of(runningAIs));
+        currentStoppedAIs.clear();
+        currentStoppedAIs.addAll(List.of(stoppedAIs));
+    }
+
+    /**
+     * Private helper method, returning the AI with the given position among the running and the stopped AIs.
+     * @param position position of the AI, running AIs first
+     * @return the AI
+     */
+    private AIObject getAI(int position) {
+        return position < runningAIs.length ? runningAIs[position] : stoppedAIs[position - runningAIs.length];
+    }
+}
@@ -0,0 +1,52 @@
+package kit.edu.informatik.model.memory;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The class models the Flight Recorder event of a started game, lasting from the initialization of the memory
+ * until the AIs have been loaded.
+ *
+ * @author uqtwh
+ * @version 1.0
+ */
+@Name("codefight.GameStarted")
+@Label("Game Started")
+@Category({"CodeFight", "Game"})
+@Description("A game has been started, including the initialization of the memory")
+@StackTrace(false)
+final class GameStartedEvent extends Event {
+    @Label("AIs")
+    private int ais;
+    @Label("Memory Size")
+    private int memorySize;
+    @Label("Seed")
+    private int seed;
+    @Label("Execution Mode")
+    private String executionMode;
+    @Label("Arena Type")
+    private String arenaType;
+
+    /**
+     * Commits the event with the given values, if it is enabled.
+     * @param ais           amount of AIs of the game
+     * @param memorySize    size of the memory
+     * @param seed          seed of the initialization
+     * @param executionMode mode in which the commands of the AIs are executed
+     * @param arenaType     where the cells of the memory are stored
+     */
+    void record(int ais, int memorySize, int seed, ExecutionMode executionMode, ArenaType arenaType) {
+        if (shouldCommit()) {
+            this.ais = ais;
+            this.memorySize = memorySize;
+            this.seed = seed;
+            this.executionMode = executionMode.name();
+            this.arenaType = arenaType.name();
+            commit();
+        }
+    }
+}
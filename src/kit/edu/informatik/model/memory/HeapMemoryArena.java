@@ -0,0 +1,142 @@
+package kit.edu.informatik.model.memory;
+
+/**
+ * The class stores the cells of a {@link MemoryArena} in parallel primitive arrays on the Java heap.
+ *
+ * @author uqtwh
+ * @version 1.0
+ */
+final class HeapMemoryArena extends MemoryArena {
+    private final byte[] opcodes;
+    private final int[] entriesA;
+    private final int[] entriesB;
+    private final short[] marks;
+
+    /**
+     * Constructor of the class, creating an arena of STOP commands without owners.
+     * @param size amount of cells of the arena
+     */
+    HeapMemoryArena(int size) {
+        super(size);
+        opcodes = new byte[size];
+        entriesA = new int[size];
+        entriesB = new int[size];
+        marks = new short[size];
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param index {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public int getOpcode(int index) {
+        return opcodes[index];
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param index {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public int getEntryA(int index) {
+        return entriesA[index];
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param index {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public int getEntryB(int index) {
+        return entriesB[index];
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param index  {@inheritDoc}
+     * @param entryA {@inheritDoc}
+     */
+    @Override
+    protected void storeEntryA(int index, int entryA) {
+        entriesA[index] = entryA;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param index  {@inheritDoc}
+     * @param entryB {@inheritDoc}
+     */
+    @Override
+    protected void storeEntryB(int index, int entryB) {
+        entriesB[index] = entryB;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param index  {@inheritDoc}
+     * @param opcode {@inheritDoc}
+     * @param entryA {@inheritDoc}
+     * @param entryB {@inheritDoc}
+     */
+    @Override
+    protected void storeCommand(int index, int opcode, int entryA, int entryB) {
+        opcodes[index] = (byte) opcode;
+        entriesA[index] = entryA;
+        entriesB[index] = entryB;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param index {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    protected short loadMark(int index) {
+        return marks[index];
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param index {@inheritDoc}
+     * @param mark  {@inheritDoc}
+     */
+    @Override
+    protected void storeMark(int index, short mark) {
+        marks[index] = mark;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param firstIndex {@inheritDoc}
+     * @param opcodes    {@inheritDoc}
+     * @param entriesA   {@inheritDoc}
+     * @param entriesB   {@inheritDoc}
+     * @param marks      {@inheritDoc}
+     */
+    @Override
+    void copyCells(int firstIndex, byte[] opcodes, int[] entriesA, int[] entriesB, short[] marks) {
+        System.arraycopy(this.opcodes, firstIndex, opcodes, 0, opcodes.length);
+        System.arraycopy(this.entriesA, firstIndex, entriesA, 0, entriesA.length);
+        System.arraycopy(this.entriesB, firstIndex, entriesB, 0, entriesB.length);
+        System.arraycopy(this.marks, firstIndex, marks, 0, marks.length);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param firstIndex {@inheritDoc}
+     * @param opcodes    {@inheritDoc}
+     * @param entriesA   {@inheritDoc}
+     * @param entriesB   {@inheritDoc}
+     * @param marks      {@inheritDoc}
+     */
+    @Override
+    protected void storeCells(int firstIndex, byte[] opcodes, int[] entriesA, int[] entriesB, short[] marks) {
+        System.arraycopy(opcodes, 0, this.opcodes, firstIndex, opcodes.length);
+        System.arraycopy(entriesA, 0, this.entriesA, firstIndex, entriesA.length);
+        System.arraycopy(entriesB, 0, this.entriesB, firstIndex, entriesB.length);
+        System.arraycopy(marks, 0, this.marks, firstIndex, marks.length);
+    }
+}
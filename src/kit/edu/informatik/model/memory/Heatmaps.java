@@ -0,0 +1,192 @@
+package kit.edu.informatik.model.memory;
+
+import kit.edu.informatik.model.AICommandTypes;
+
+import java.util.StringJoiner;
+
+/**
+ * The class counts per AI how often each cell of a {@link MemoryArena} has been executed, read and written by the AI.
+ * The cells read and written by a step are derived from its command before it is executed, independently of the
+ * {@link ExecutionMode}. Tables per {@link AICommandTypes} hold 0 or 1 for every cell a command may access,
+ * so that every step adds to the same cells without branching on the command, and the addressed cells are wrapped
+ * around the memory without a division as long as the entries are within one memory size.
+ *
+ * @author uqtwh
+ * @version 1.0
+ */
+final class Heatmaps {
+    private static final int OWN_CELL = 0;
+    private static final int ENTRY_A_CELL = 1;
+    private static final int ENTRY_B_CELL = 2;
+    private static final int INDIRECT_CELL = 3;
+    private static final int[] READS_ENTRY_A_CELL = table(AICommandTypes.MOV_R, AICommandTypes.MOV_I,
+            AICommandTypes.CMP, AICommandTypes.SWAP);
+    private static final int[] READS_ENTRY_B_CELL = table(AICommandTypes.MOV_I, AICommandTypes.ADD_R,
+            AICommandTypes.JMZ, AICommandTypes.CMP, AICommandTypes.SWAP);
+    private static final int[] WRITES_ENTRY_A_CELL = table(AICommandTypes.SWAP);
+    private static final int[] WRITES = table(AICommandTypes.MOV_R, AICommandTypes.MOV_I, AICommandTypes.ADD,
+            AICommandTypes.ADD_R, AICommandTypes.SWAP);
+    private static final int[] WRITTEN_CELL = writtenCellTable();
+    private static final String[] ROW_NAMES = {"executed", "read", "written"};
+    private static final String ROW_PATTERN = "%s (max %d): %s";
+    private static final String WINDOW_PATTERN = "%s: %s | %s | %s";
+    private static final String[] PAD_PATTERN = {"%", "s"};
+    private static final String HEAT_SYMBOLS = ".123456789";
+    private static final int EXECUTED = 0;
+    private static final int READ = 1;
+    private static final int WRITTEN = 2;
+    private final MemoryArena memoryArena;
+    private final int[][] executed;
+    private final int[][] read;
+    private final int[][] written;
+    private final int[] cells = new int[INDIRECT_CELL + 1];
+    private final int size;
+
+    /**
+     * Constructor of the class, with all counts at 0.
+     * @param memoryArena the memory arena
+     * @param aiAmount    amount of AIs of the game
+     */
+    Heatmaps(MemoryArena memoryArena, int aiAmount) {
+        this.memoryArena = memoryArena;
+        size = memoryArena.getSize();
+        executed = new int[aiAmount][size];
+        read = new int[aiAmount][size];
+        written = new int[aiAmount][size];
+    }
+
+    /**
+     * Private helper method, creating a table with 1 for the given types of commands and 0 for all other types.
+     * @param commandTypes types of commands accessing a cell
+     * @return table indexed by the ordinal of the types
+     */
+    private static int[] table(AICommandTypes... commandTypes) {
+        int[] table = new int[AICommandTypes.values().length];
+        for (AICommandTypes commandType : commandTypes) {
+            table[commandType.ordinal()] = 1;
+        }
+        return table;
+    }
+
+    /**
+     * Private helper method, creating the table of the cell written by each type of command, besides the cell
+     * of entry A written by {@link AICommandTypes#SWAP}. Types of commands writing no cell refer to their own cell,
+     * which is counted 0 times.
+     * @return table indexed by the ordinal of the types
+     */
+    private static int[] writtenCellTable() {
+        int[] table = new int[AICommandTypes.values().length];
+        table[AICommandTypes.MOV_R.ordinal()] = ENTRY_B_CELL;
+        table[AICommandTypes.MOV_I.ordinal()] = INDIRECT_CELL;
+        table[AICommandTypes.ADD_R.ordinal()] = ENTRY_B_CELL;
+        table[AICommandTypes.SWAP.ordinal()] = ENTRY_B_CELL;
+        return table;
+    }
+
+    /**
+     * Counts the execution of a cell by an AI and the cells its command reads and writes.
+     * Is called before the command is executed.
+     * @param order order of the AI in the game
+     * @param index index of the executed cell
+     */
+    void recordStep(int order, int index) {
+        int opcode = memoryArena.getOpcode(index);
+        int entryACell = wrap(index + memoryArena.getEntryA(index));
+        int entryBCell = wrap(index + memoryArena.getEntryB(index));
+        cells[OWN_CELL] = index;
+        cells[ENTRY_A_CELL] = entryACell;
+        cells[ENTRY_B_CELL] = entryBCell;
+        cells[INDIRECT_CELL] = wrap(entryBCell + memoryArena.getEntryB(entryBCell));
+        int[] readCounts = read[order];
+        int[] writeCounts = written[order];
+        executed[order][index]++;
+        readCounts[entryACell] += READS_ENTRY_A_CELL[opcode];
+        readCounts[entryBCell] += READS_ENTRY_B_CELL[opcode];
+        writeCounts[entryACell] += WRITES_ENTRY_A_CELL[opcode];
+        writeCounts[cells[WRITTEN_CELL[opcode]]] += WRITES[opcode];
+    }
+
+    /**
+     * Private helper method for {@link #recordStep(int, int)}, calculating the cyclical index of a given index
+     * like the commands do. Indices within one memory size around the memory are wrapped with masks,
+     * only other indices need a division.
+     * @param index index to calculate the cyclical index for
+     * @return cyclical index
+     */
+    private int wrap(int index) {
+        if (Integer.compareUnsigned(index + size, 3 * size) >= 0) {
+            return Math.floorMod(index, size);
+        }
+        int wrapped = index + (size & (index >> (Integer.SIZE - 1)));
+        return wrapped - (size & ((size - 1 - wrapped) >> (Integer.SIZE - 1)));
+    }
+
+    /**
+     * Returns a String representation of the heatmaps of an AI. If the given index is -1, every heatmap is shown as
+     * a row of one symbol per cell, from {@code .} for cells never counted up to {@code 9} for the maximum of the row
+     * on a logarithmic scale. Otherwise, the counts of the cells from {@code index} are listed.
+     * @param order order of the AI in the game
+     * @param index index of the first listed cell or -1
+     * @return String representation of the heatmaps
+     */
+    String represent(int order, int index) {
+        int[][] counts = {executed[order], read[order], written[order]};
+        StringJoiner stringJoiner = new StringJoiner(System.lineSeparator());
+        if (index == -1) {
+            for (int i = 0; i < counts.length; i++) {
+                int max = 0;
+                for (int count : counts[i]) {
+                    max = Math.max(max, count);
+                }
+                stringJoiner.add(ROW_PATTERN.formatted(ROW_NAMES[i], max, buildRow(counts[i], max)));
+            }
+            return stringJoiner.toString();
+        }
+        int cells = Math.min(StringRepresentator.SHOW_MEMORY_RANGE, memoryArena.getSize());
+        int[] lengths = {String.valueOf(memoryArena.getSize() - 1).length(), ROW_NAMES[EXECUTED].length(),
+                ROW_NAMES[READ].length(), ROW_NAMES[WRITTEN].length()};
+        for (int i = 0; i < cells; i++) {
+            int targetIndex = (index + i) % memoryArena.getSize();
+            for (int j = 0; j < counts.length; j++) {
+                lengths[j + 1] = Math.max(lengths[j + 1], String.valueOf(counts[j][targetIndex]).length());
+            }
+        }
+        stringJoiner.add(WINDOW_PATTERN.formatted(padString("", lengths[0]), padString(ROW_NAMES[EXECUTED], lengths[1]),
+                padString(ROW_NAMES[READ], lengths[2]), padString(ROW_NAMES[WRITTEN], lengths[3])));
+        for (int i = 0; i < cells; i++) {
+            int targetIndex = (index + i) % memoryArena.getSize();
+            stringJoiner.add(WINDOW_PATTERN.formatted(padString(targetIndex, lengths[0]),
+                    padString(counts[EXECUTED][targetIndex], lengths[1]), padString(counts[READ][targetIndex], lengths[2]),
+                    padString(counts[WRITTEN][targetIndex], lengths[3])));
+        }
+        return stringJoiner.toString();
+    }
+
+    /**
+     * Private helper method for {@link #represent(int, int)}, building a row of one heat symbol per cell.
+     * @param counts counts of the cells
+     * @param max    maximum of the counts
+     * @return built row
+     */
+    private String buildRow(int[] counts, int max) {
+        int maxLevel = Integer.SIZE - Integer.numberOfLeadingZeros(max);
+        int highestSymbol = HEAT_SYMBOLS.length() - 1;
+        StringBuilder stringBuilder = new StringBuilder(counts.length);
+        for (int count : counts) {
+            // The symbol grows with the binary logarithm of the count, scaled to the symbols above the zero symbol
+            int level = Integer.SIZE - Integer.numberOfLeadingZeros(count);
+            stringBuilder.append(HEAT_SYMBOLS.charAt(count == 0 ? 0 : 1 + (level - 1) * (highestSymbol - 1) / Math.max(maxLevel - 1, 1)));
+        }
+        return stringBuilder.toString();
+    }
+
+    /**
+     * Private helper method for {@link #represent(int, int)}, padding a string with a given amount of spaces.
+     * @param word    String to pad
+     * @param padSize amount of spaces to pad with
+     * @return padded String
+     */
+    private String padString(Object word, int padSize) {
+        return (PAD_PATTERN[0] + padSize + PAD_PATTERN[1]).formatted(String.valueOf(word));
+    }
+}
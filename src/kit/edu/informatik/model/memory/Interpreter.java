@@ -0,0 +1,60 @@
+package kit.edu.informatik.model.memory;
+
+import kit.edu.informatik.model.AIObject;
+
+/**
+ * This interface represents an interpreter of the commands stored in a {@link MemoryArena}, bound to the arena of
+ * a {@link Memory} and chosen once by its {@link ExecutionMode}. Each interpreter runs the loop over the turns itself,
+ * so that the commands are dispatched within the loop instead of through a call per turn.
+ *
+ * @author uqtwh
+ * @version 1.0
+ */
+interface Interpreter {
+
+    /**
+     * Creates the interpreter of an arena for a given {@link ExecutionMode}.
+     * @param executionMode the mode in which the commands are executed
+     * @param memoryArena   the memory arena to execute the commands of
+     * @return the new interpreter
+     */
+    static Interpreter create(ExecutionMode executionMode, MemoryArena memoryArena) {
+        return switch (executionMode) {
+            case SWITCH -> new SwitchInterpreter(memoryArena);
+            default -> new ObjectInterpreter(memoryArena);
+        };
+    }
+
+    /**
+     * Completes the turn of an AI after its command has been executed, counting the turn and moving the AI
+     * to the next index unless it has been stopped.
+     * @param currentAI the AI whose command has been executed
+     * @param size      size of the memory arena
+     * @return {@code true} if the AI has stopped, otherwise {@code false}
+     */
+    static boolean completeTurn(AIObject currentAI, int size) {
+        currentAI.setCounter(1);
+        if (!currentAI.getRunning()) {
+            return true;
+        }
+        currentAI.setIndex((currentAI.getIndex() + 1) % size);
+        return false;
+    }
+
+    /**
+     * Executes the command at the index of an AI for a single turn, counting the turn and moving the AI to the next
+     * index unless it has been stopped.
+     * @param currentAI the AI to execute the command for
+     * @return {@code true} if the AI has stopped, otherwise {@code false}
+     */
+    boolean executeTurn(AIObject currentAI);
+
+    /**
+     * Executes turns of the running AIs of a ring, passing the turn to the next AI after each turn, until
+     * a given amount of turns has been executed or an AI has stopped. A stopped AI is left in the ring as its current AI.
+     * @param turnRing the ring scheduling the turns of the running AIs, which must not be empty
+     * @param steps    maximum amount of turns to execute
+     * @return amount of executed turns
+     */
+    int executeTurns(TurnRing turnRing, int steps);
+}
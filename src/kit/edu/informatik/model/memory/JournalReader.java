@@ -0,0 +1,409 @@
+package kit.edu.informatik.model.memory;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The class reconstructs the state of a game at a given step from a journal written by a {@link GameJournal}.
+ * The arena is initialized from the arena type and the seed in the header of the journal,
+ * the latest keyframe at or before the step is found with a binary search over the keyframe index,
+ * only the steps after that keyframe are read.
+ * Journals without an index, as the game has not been ended, are indexed by skipping through their records first.
+ * The journal is mapped in windows of at most {@link #WINDOW_SIZE} bytes, so that journals of any length can be read.
+ *
+ * @author uqtwh
+ * @version 1.0
+ */
+final class JournalReader {
+    private static final String NO_JOURNAL = "%s is no journal.";
+    private static final int WINDOW_SIZE = 1 << 26;
+    private static final int CELL_BYTES = Byte.BYTES + Short.BYTES + 2 * Integer.BYTES;
+    private static final int AI_STATE_BYTES = Byte.BYTES + 2 * Integer.BYTES;
+    private static final int STEP_BYTES = 2 * Short.BYTES + Integer.BYTES;
+    private static final int WRITE_BYTES = Integer.BYTES + CELL_BYTES;
+    private static final int KEYFRAME_HEADER_BYTES = Byte.BYTES + Long.BYTES + 2 * Integer.BYTES;
+    private final FileChannel channel;
+    private final long size;
+    private final String[] names;
+    private final ArenaType arenaType;
+    private final MemoryArena memoryArena;
+    private final int[] indices;
+    private final int[] counters;
+    private final boolean[] running;
+    private final long firstKeyframe;
+    private ByteBuffer window;
+    private long windowStart;
+    private long position;
+    private long step;
+    private int currentOrder;
+
+    /**
+     * Private constructor of the class, reading the header of a journal and initializing the arena.
+     * @param channel channel to read the journal from
+     * @param file    path of the journal, used for error messages
+     * @throws IOException if the data is no journal or cannot be mapped
+     */
+    private JournalReader(FileChannel channel, Path file) throws IOException {
+        this.channel = channel;
+        size = channel.size();
+        if (size < Byte.BYTES + 4 * Integer.BYTES || readInt() != GameJournal.MAGIC) {
+            throw new IOException(NO_JOURNAL.formatted(file));
+        }
+        int memorySize = readInt();
+        arenaType = ArenaType.values()[readByte()];
+        int seed = readInt();
+        memoryArena = MemoryArena.create(memorySize, arenaType);
+        memoryArena.initialize(seed);
+        names = new String[readInt()];
+        for (int i = 0; i < names.length; i++) {
+            byte[] name = new byte[readShort()];
+            for (int j = 0; j < name.length; j++) {
+                name[j] = readByte();
+            }
+            names[i] = new String(name, StandardCharsets.UTF_8);
+        }
+        indices = new int[names.length];
+        counters = new int[names.length];
+        running = new boolean[names.length];
+        firstKeyframe = position;
+    }
+
+    /**
+     * Reads a journal and reconstructs the state of its game after a given amount of steps,
+     * or after its last step if the journal ends before.
+     * @param file       path of the journal
+     * @param targetStep amount of executed steps to reconstruct the state after
+     * @return the reader holding the reconstructed state
+     * @throws IOException if the journal cannot be read
+     */
+    static JournalReader seek(Path file, long targetStep) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            JournalReader reader = new JournalReader(channel, file);
+            reader.readKeyframe(reader.findKeyframe(targetStep));
+            reader.readSteps(targetStep);
+            return reader;
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | BufferUnderflowException e) {
+            throw new IOException(NO_JOURNAL.formatted(file), e);
+        }
+    }
+
+    /**
+     * Returns the amount of executed steps of the reconstructed state.
+     * @return amount of executed steps
+     */
+    long getStep() {
+        return step;
+    }
+
+    /**
+     * Returns the reconstructed arena.
+     * @return the memory arena
+     */
+    MemoryArena getMemoryArena() {
+        return memoryArena;
+    }
+
+    /**
+     * Returns where the cells of the reconstructed arena are stored, which is the arena type of the recorded game.
+     * @return the arena type
+     */
+    ArenaType getArenaType() {
+        return arenaType;
+    }
+
+    /**
+     * Returns the amount of AIs of the game.
+     * @return amount of AIs
+     */
+    int getAIAmount() {
+        return names.length;
+    }
+
+    /**
+     * Returns the name of the AI with a given order.
+     * @param order order of the AI
+     * @return name of the AI
+     */
+    String getName(int order) {
+        return names[order];
+    }
+
+    /**
+     * Returns the index of the AI with a given order in the reconstructed state.
+     * @param order order of the AI
+     * @return index of the AI
+     */
+    int getIndex(int order) {
+        return indices[order];
+    }
+
+    /**
+     * Returns the counter of the AI with a given order in the reconstructed state.
+     * @param order order of the AI
+     * @return counter of the AI
+     */
+    int getCounter(int order) {
+        return counters[order];
+    }
+
+    /**
+     * Returns whether the AI with a given order is running in the reconstructed state.
+     * @param order order of the AI
+     * @return {@code true} if the AI is running, otherwise {@code false}
+     */
+    boolean isRunning(int order) {
+        return running[order];
+    }
+
+    /**
+     * Returns the order of the AI whose turn it is in the reconstructed state.
+     * @return order of the current AI or -1 if no AI is running
+     */
+    int getCurrentOrder() {
+        return currentOrder;
+    }
+
+    /**
+     * Private helper method for {@link #seek(Path, long)}, finding the offset of the latest keyframe
+     * at or before a given step with a binary search over the keyframe index.
+     * @param targetStep the step to find the keyframe for
+     * @return offset of the keyframe
+     * @throws IOException if the journal cannot be mapped
+     */
+    private long findKeyframe(long targetStep) throws IOException {
+        List<long[]> keyframes = readIndex();
+        int low = 0;
+        int high = keyframes.size() - 1;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (keyframes.get(middle)[0] <= targetStep) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return keyframes.get(low)[1];
+    }
+
+    /**
+     * Private helper method for {@link #findKeyframe(long)}, reading the keyframe index of a closed journal
+     * or building it by skipping through the records of an unclosed journal.
+     * @return pairs of step and offset of the keyframes, ordered by their steps
+     * @throws IOException if the journal cannot be mapped
+     */
+    private List<long[]> readIndex() throws IOException {
+        List<long[]> keyframes = new ArrayList<>();
+        long trailer = size - GameJournal.TRAILER_SIZE;
+        long indexOffset = trailer > firstKeyframe ? getLong(trailer) : -1;
+        if (indexOffset >= firstKeyframe && indexOffset < trailer && getInt(trailer + Long.BYTES) == GameJournal.MAGIC
+                && getByte(indexOffset) == GameJournal.END) {
+            position = indexOffset + Byte.BYTES;
+            int amount = readInt();
+            for (int i = 0; i < amount; i++) {
+                keyframes.add(new long[] {readLong(), readLong()});
+            }
+            return keyframes;
+        }
+        long offset = firstKeyframe;
+        long end = getRecordEnd(offset);
+        while (end > 0) {
+            if (getByte(offset) == GameJournal.KEYFRAME) {
+                long keyframeStep = getLong(offset + Byte.BYTES);
+                keyframes.removeIf(keyframe -> keyframe[0] >= keyframeStep);
+                keyframes.add(new long[] {keyframeStep, offset});
+            }
+            offset = end;
+            end = getRecordEnd(offset);
+        }
+        return keyframes;
+    }
+
+    /**
+     * Private helper method, returning the offset after the record at a given offset.
+     * @param offset offset of the record
+     * @return offset after the record, or -1 if there is no complete step, write or keyframe record at the offset
+     * @throws IOException if the journal cannot be mapped
+     */
+    private long getRecordEnd(long offset) throws IOException {
+        byte tag = offset < size ? getByte(offset) : GameJournal.END;
+        long end;
+        if (tag == GameJournal.STEP || tag == GameJournal.STEP_STOPPED) {
+            end = offset + Byte.BYTES + STEP_BYTES;
+        } else if (tag == GameJournal.WRITE) {
+            end = offset + Byte.BYTES + WRITE_BYTES;
+        } else if (tag == GameJournal.KEYFRAME && offset + KEYFRAME_HEADER_BYTES <= size) {
+            long cellsOffset = offset + KEYFRAME_HEADER_BYTES
+                    + (long) getInt(offset + Byte.BYTES + Long.BYTES) * Short.BYTES
+                    + (long) names.length * AI_STATE_BYTES;
+            if (cellsOffset < offset || cellsOffset + Integer.BYTES > size) {
+                return -1;
+            }
+            end = cellsOffset + Integer.BYTES + (long) getInt(cellsOffset) * (Integer.BYTES + CELL_BYTES);
+        } else {
+            return -1;
+        }
+        return end <= offset || end > size ? -1 : end;
+    }
+
+    /**
+     * Private helper method, reading the keyframe at a given offset into the reconstructed state.
+     * The cells of a keyframe are all cells written since the start of the game,
+     * every other cell still holds its initial value.
+     * @param offset offset of the keyframe
+     * @throws IOException if the journal cannot be mapped
+     */
+    private void readKeyframe(long offset) throws IOException {
+        position = offset + Byte.BYTES;
+        step = readLong();
+        int runningAmount = readInt();
+        int turn = readInt();
+        currentOrder = runningAmount == 0 ? -1 : getShort(position + (long) turn * Short.BYTES);
+        position += (long) runningAmount * Short.BYTES;
+        for (int order = 0; order < names.length; order++) {
+            running[order] = readByte() != 0;
+            indices[order] = readInt();
+            counters[order] = readInt();
+        }
+        int cellAmount = readInt();
+        for (int i = 0; i < cellAmount; i++) {
+            memoryArena.restoreCell(readInt(), readByte(), readInt(), readInt(), readShort());
+        }
+    }
+
+    /**
+     * Private helper method for {@link #seek(Path, long)}, applying the recorded steps following the current keyframe
+     * until a given step has been reached or the journal ends.
+     * @param targetStep the step to stop at
+     * @throws IOException if the journal cannot be mapped
+     */
+    private void readSteps(long targetStep) throws IOException {
+        while (getRecordEnd(position) > 0) {
+            long offset = position;
+            byte tag = readByte();
+            if (tag == GameJournal.WRITE) {
+                memoryArena.restoreCell(readInt(), readByte(), readInt(), readInt(), readShort());
+            } else if ((tag == GameJournal.STEP || tag == GameJournal.STEP_STOPPED) && step < targetStep) {
+                int order = readShort();
+                indices[order] = readInt();
+                counters[order]++;
+                running[order] = tag == GameJournal.STEP;
+                currentOrder = readShort();
+                step++;
+            } else if (tag == GameJournal.KEYFRAME && readLong() <= targetStep) {
+                readKeyframe(offset);
+            } else {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Private helper method, returning the mapped window holding a given range of the journal,
+     * mapping a new window starting at the range if the current one does not hold it.
+     * @param offset offset of the range
+     * @param length length of the range
+     * @return the window holding the range
+     * @throws IOException if the journal cannot be mapped
+     */
+    private ByteBuffer window(long offset, int length) throws IOException {
+        if (offset < 0 || offset + length > size) {
+            throw new BufferUnderflowException();
+        }
+        if (window == null || offset < windowStart || offset + length > windowStart + window.capacity()) {
+            window = channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(WINDOW_SIZE, size - offset));
+            windowStart = offset;
+        }
+        return window;
+    }
+
+    /**
+     * Private helper method, reading the byte at a given offset.
+     * @param offset offset of the byte
+     * @return the byte
+     * @throws IOException if the journal cannot be mapped
+     */
+    private byte getByte(long offset) throws IOException {
+        return window(offset, Byte.BYTES).get((int) (offset - windowStart));
+    }
+
+    /**
+     * Private helper method, reading the short at a given offset.
+     * @param offset offset of the short
+     * @return the short
+     * @throws IOException if the journal cannot be mapped
+     */
+    private short getShort(long offset) throws IOException {
+        return window(offset, Short.BYTES).getShort((int) (offset - windowStart));
+    }
+
+    /**
+     * Private helper method, reading the int at a given offset.
+     * @param offset offset of the int
+     * @return the int
+     * @throws IOException if the journal cannot be mapped
+     */
+    private int getInt(long offset) throws IOException {
+        return window(offset, Integer.BYTES).getInt((int) (offset - windowStart));
+    }
+
+    /**
+     * Private helper method, reading the long at a given offset.
+     * @param offset offset of the long
+     * @return the long
+     * @throws IOException if the journal cannot be mapped
+     */
+    private long getLong(long offset) throws IOException {
+        return window(offset, Long.BYTES).getLong((int) (offset - windowStart));
+    }
+
+    /**
+     * Private helper method, reading the byte at the current position and advancing the position.
+     * @return the byte
+     * @throws IOException if the journal cannot be mapped
+     */
+    private byte readByte() throws IOException {
+        byte value = getByte(position);
+        position += Byte.BYTES;
+        return value;
+    }
+
+    /**
+     * Private helper method, reading the short at the current position and advancing the position.
+     * @return the short
+     * @throws IOException if the journal cannot be mapped
+     */
+    private short readShort() throws IOException {
+        short value = getShort(position);
+        position += Short.BYTES;
+        return value;
+    }
+
+    /**
+     * Private helper method, reading the int at the current position and advancing the position.
+     * @return the int
+     * @throws IOException if the journal cannot be mapped
+     */
+    private int readInt() throws IOException {
+        int value = getInt(position);
+        position += Integer.BYTES;
+        return value;
+    }
+
+    /**
+     * Private helper method, reading the long at the current position and advancing the position.
+     * @return the long
+     * @throws IOException if the journal cannot be mapped
+     */
+    private long readLong() throws IOException {
+        long value = getLong(position);
+        position += Long.BYTES;
+        return value;
+    }
+}
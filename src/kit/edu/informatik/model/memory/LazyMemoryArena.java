@@ -0,0 +1,291 @@
+package kit.edu.informatik.model.memory;
+
+import kit.edu.informatik.model.AICommandTypes;
+
+import java.util.Arrays;
+
+/**
+ * The class stores only the cells of a {@link MemoryArena} which have been written or owned since the initialization.
+ * The initial command of every other cell is computed from the seed and the index of the cell by a counter-based
+ * generator, so that the initialization does not touch any cell and untouched cells take no memory.
+ * Written cells are stored in a sparse overlay, an open-addressing hash table from their index to a slot
+ * of parallel primitive arrays.
+ * The random commands differ from the ones of {@link MemoryArena#initialize(int)}, which are generated sequentially.
+ *
+ * @author uqtwh
+ * @version 1.0
+ */
+final class LazyMemoryArena extends MemoryArena {
+    private static final int COMMAND_TYPES = AICommandTypes.values().length;
+    private static final long SEED_MULTIPLIER = 0xD1B54A32D192ED03L;
+    private static final int INT_BITS = 32;
+    private static final int INITIAL_CAPACITY = 1 << 10;
+    private static final int EMPTY = -1;
+    private int seed;
+    private int[] tableIndices;
+    private int[] tableSlots;
+    private int[] indices;
+    private byte[] opcodes;
+    private int[] entriesA;
+    private int[] entriesB;
+    private short[] marks;
+    private int slotAmount;
+
+    /**
+     * Constructor of the class, creating an arena of STOP commands without owners.
+     * @param size amount of cells of the arena
+     */
+    LazyMemoryArena(int size) {
+        super(size);
+        clearOverlay();
+    }
+
+    /**
+     * Initializes the arena for a new game by discarding all written cells, so that every cell has its initial command,
+     * a STOP command if the seed is 0 and a random command generated from the seed and its index otherwise.
+     * @param seed seed of the initialization
+     */
+    @Override
+    public void initialize(int seed) {
+        this.seed = seed;
+        clearOverlay();
+        allWritten();
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param index {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public int getOpcode(int index) {
+        int slot = findSlot(index);
+        if (slot != EMPTY) {
+            return opcodes[slot];
+        }
+        return seed == 0 ? 0 : (int) (((initialBits(index) >>> INT_BITS) * COMMAND_TYPES) >>> INT_BITS);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param index {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public int getEntryA(int index) {
+        int slot = findSlot(index);
+        if (slot != EMPTY) {
+            return entriesA[slot];
+        }
+        return seed == 0 ? 0 : (int) StateHash.mix(initialBits(index));
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param index {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public int getEntryB(int index) {
+        int slot = findSlot(index);
+        if (slot != EMPTY) {
+            return entriesB[slot];
+        }
+        return seed == 0 ? 0 : (int) (StateHash.mix(initialBits(index)) >>> INT_BITS);
+    }
+
+    /**
+     * Counts the cells owned by each AI, only visiting the stored cells, as all other cells have no owner.
+     * @param owners {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public int[] countTerritories(int owners) {
+        int[] territories = new int[owners];
+        for (int slot = 0; slot < slotAmount; slot++) {
+            int owner = getOwner(indices[slot]);
+            if (owner >= 0 && owner < owners) {
+                territories[owner]++;
+            }
+        }
+        return territories;
+    }
+
+    /**
+     * Returns the amount of cells which are stored in the overlay.
+     * @return amount of stored cells
+     */
+    int getStoredCells() {
+        return slotAmount;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param index  {@inheritDoc}
+     * @param entryA {@inheritDoc}
+     */
+    @Override
+    protected void storeEntryA(int index, int entryA) {
+        int slot = materialize(index);
+        entriesA[slot] = entryA;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param index  {@inheritDoc}
+     * @param entryB {@inheritDoc}
+     */
+    @Override
+    protected void storeEntryB(int index, int entryB) {
+        int slot = materialize(index);
+        entriesB[slot] = entryB;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param index  {@inheritDoc}
+     * @param opcode {@inheritDoc}
+     * @param entryA {@inheritDoc}
+     * @param entryB {@inheritDoc}
+     */
+    @Override
+    protected void storeCommand(int index, int opcode, int entryA, int entryB) {
+        int slot = materialize(index);
+        opcodes[slot] = (byte) opcode;
+        entriesA[slot] = entryA;
+        entriesB[slot] = entryB;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param index {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    protected short loadMark(int index) {
+        int slot = findSlot(index);
+        return slot == EMPTY ? 0 : marks[slot];
+    }
+
+    /**
+     * {@inheritDoc}
+     * An unowned cell is only stored if it has been stored before.
+     * @param index {@inheritDoc}
+     * @param mark  {@inheritDoc}
+     */
+    @Override
+    protected void storeMark(int index, short mark) {
+        int slot = mark == 0 ? findSlot(index) : materialize(index);
+        if (slot != EMPTY) {
+            marks[slot] = mark;
+        }
+    }
+
+    /**
+     * Private helper method, computing the bits from which the initial command of a cell is derived.
+     * @param index index of the cell
+     * @return bits of the initial command
+     */
+    private long initialBits(int index) {
+        return StateHash.mix(seed * SEED_MULTIPLIER + index);
+    }
+
+    /**
+     * Private helper method, returning the slot of a stored cell.
+     * @param index index of the cell
+     * @return slot of the cell or {@link #EMPTY} if the cell is not stored
+     */
+    private int findSlot(int index) {
+        int mask = tableIndices.length - 1;
+        int position = (int) StateHash.mix(index) & mask;
+        while (tableIndices[position] != EMPTY) {
+            if (tableIndices[position] == index) {
+                return tableSlots[position];
+            }
+            position = (position + 1) & mask;
+        }
+        return EMPTY;
+    }
+
+    /**
+     * Private helper method, returning the slot of a cell and storing the cell with its initial command first
+     * if it is not stored yet.
+     * @param index index of the cell
+     * @return slot of the cell
+     */
+    private int materialize(int index) {
+        int slot = findSlot(index);
+        if (slot != EMPTY) {
+            return slot;
+        }
+        int opcode = getOpcode(index);
+        int entryA = getEntryA(index);
+        int entryB = getEntryB(index);
+        if (slotAmount == indices.length) {
+            grow();
+        }
+        slot = slotAmount++;
+        insertSlot(index, slot);
+        indices[slot] = index;
+        opcodes[slot] = (byte) opcode;
+        entriesA[slot] = entryA;
+        entriesB[slot] = entryB;
+        marks[slot] = 0;
+        return slot;
+    }
+
+    /**
+     * Private helper method for {@link #materialize(int)}, doubling the capacity of the overlay.
+     */
+    private void grow() {
+        int capacity = 2 * indices.length;
+        indices = Arrays.copyOf(indices, capacity);
+        opcodes = Arrays.copyOf(opcodes, capacity);
+        entriesA = Arrays.copyOf(entriesA, capacity);
+        entriesB = Arrays.copyOf(entriesB, capacity);
+        marks = Arrays.copyOf(marks, capacity);
+        createTable(capacity);
+        for (int slot = 0; slot < slotAmount; slot++) {
+            insertSlot(indices[slot], slot);
+        }
+    }
+
+    /**
+     * Private helper method, adding the slot of a cell to the hash table, which must not contain the cell yet.
+     * @param index index of the cell
+     * @param slot  slot of the cell
+     */
+    private void insertSlot(int index, int slot) {
+        int mask = tableIndices.length - 1;
+        int position = (int) StateHash.mix(index) & mask;
+        while (tableIndices[position] != EMPTY) {
+            position = (position + 1) & mask;
+        }
+        tableIndices[position] = index;
+        tableSlots[position] = slot;
+    }
+
+    /**
+     * Private helper method, discarding all stored cells.
+     */
+    private void clearOverlay() {
+        slotAmount = 0;
+        indices = new int[INITIAL_CAPACITY];
+        opcodes = new byte[INITIAL_CAPACITY];
+        entriesA = new int[INITIAL_CAPACITY];
+        entriesB = new int[INITIAL_CAPACITY];
+        marks = new short[INITIAL_CAPACITY];
+        createTable(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Private helper method, creating an empty hash table with twice as many positions as the overlay has slots,
+     * keeping its load factor at most one half.
+     * @param capacity amount of slots of the overlay
+     */
+    private void createTable(int capacity) {
+        tableIndices = new int[2 * capacity];
+        tableSlots = new int[2 * capacity];
+        Arrays.fill(tableIndices, EMPTY);
+    }
+}
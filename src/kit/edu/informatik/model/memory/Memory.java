@@ -2,15 +2,17 @@ package kit.edu.informatik.model.memory;
 
 import kit.edu.informatik.model.AICommandTypes;
 import kit.edu.informatik.model.AIObject;
-import kit.edu.informatik.model.InstantiateCommand;
 import kit.edu.informatik.model.aicommands.AICommand;
+import kit.edu.informatik.model.metrics.Metrics;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
 import java.util.StringJoiner;
 import java.util.Optional;
 
@@ -25,23 +27,48 @@ public final class Memory {
     private static final String STATUS_PATTERN = "%s AIs: ";
     private static final String END_GAME_PATTERN = "%s%s%s";
     private static final String AI_NAME_PATTERN = "%s#%s";
-    private static final String NEXT_PATTERN = "%s executed %d steps until stopping.";
+    private static final String NEXT_INFIX = " executed ";
+    private static final String NEXT_SUFFIX = " steps until stopping.";
+    private static final String RUN_DRAW = "Provable draw, the state after %d steps repeats every %d steps.";
+    private static final String RUN_NO_REPETITION = "No repeated state within %d steps.";
+    private static final String REWIND_MESSAGE = "Rewound %d steps to step %d.";
+    private static final int SNAPSHOT_INTERVAL = 4096;
+    private static final int KEYFRAME_INTERVAL = 16 * SNAPSHOT_INTERVAL;
+    private static final String REPLAY_PATTERN = "Replayed %d steps.";
+    private static final String REPLAY_AI_PATTERN = "%s (%s@%d)";
     private static final String AI_STATUS_PATTERN = "%s (%s@%d)%s";
     private static final String AI_STATUS_COMMAND_PATTERN = "Next Command: %s|%d|%d @%d";
     private static final String[] STATUS = {"Running", "Stopped"};
     private final List<AIObject> aiList = new ArrayList<>();
-    private final List<AIObject> runningAIs = new ArrayList<>();
+    private final TurnRing turnRing = new TurnRing();
     private final List<AIObject> stoppedAIs = new ArrayList<>();
-    private final MemoryCell[] memoryCells;
+    private final List<AIObject> stoppedThisRound;
+    private final StringBuilder stopMessage = new StringBuilder();
+    private final MemoryArena memoryArena;
     private final String[] memorySymbols;
     private final String[] aiSymbols;
+    private final AISymbols aiSymbolPairs;
     private final int max;
-    private ExecuteAICommand commandExecutor;
+    private final ExecutionMode executionMode;
+    private final ArenaType arenaType;
+    private final Interpreter interpreter;
+    private final StringRepresentator stringRepresentator;
+    private ArenaTemplates arenaTemplates = new ArenaTemplates();
     private Phase phase = Phase.INITIALIZING;
     private InitMode initMode = InitMode.INIT_MODE_STOP;
     private int seed = 0;
     private int currentIndex = 0;
-    private int currentAIindex = 0;
+    private long gameSteps = 0;
+    private boolean recordHistory;
+    private GameHistory history;
+    private Path journalDirectory;
+    private GameJournal journal;
+    private StateMirror mirror;
+    private Metrics metrics;
+    private long[] opcodeCounts;
+    private boolean recordHeatmaps;
+    private Heatmaps heatmaps;
+    private boolean rewinding;
 
     /**
      * Constructor of the class.
@@ -50,39 +77,87 @@ public final class Memory {
      * @param aiSymbols representation symbols of the AIs
      */
     public Memory(int size, String[] symbols, String[] aiSymbols) {
-        memoryCells = new MemoryCell[size];
+        this(size, symbols, aiSymbols, ExecutionMode.OBJECT, ArenaType.HEAP);
+    }
+    /**
+     * Constructor of the class, executing the commands of the AIs in a given {@link ExecutionMode}
+     * and storing the cells in an arena of a given {@link ArenaType}.
+     * @param size          size of the memory
+     * @param symbols       standard representation symbols of the memory
+     * @param aiSymbols     representation symbols of the AIs
+     * @param executionMode mode in which the commands of the AIs are executed
+     * @param arenaType     where the cells of the memory are stored
+     */
+    public Memory(int size, String[] symbols, String[] aiSymbols, ExecutionMode executionMode, ArenaType arenaType) {
+        this.executionMode = executionMode;
+        this.arenaType = arenaType;
+        memoryArena = MemoryArena.create(size, arenaType);
+        interpreter = Interpreter.create(executionMode, memoryArena);
         this.memorySymbols = symbols.clone();
         this.aiSymbols = aiSymbols.clone();
-        max = aiSymbols.length / 2;
+        aiSymbolPairs = new AISymbols(symbols, aiSymbols);
+        // Lazy arenas take no memory for untouched cells, so neither does their representation
+        stringRepresentator = new StringRepresentator(memoryArena, symbols, aiSymbolPairs, arenaType != ArenaType.LAZY);
+        // Further symbols are generated once the given ones run out, so only the arena limits the amount of AIs
+        max = MemoryArena.getMaxOwners();
+        stoppedThisRound = new ArrayList<>();
     }
     /**
      * Initializes the game with a given list of AIs.
      * @param aiList list of AIs to play the game with
      */
     public void startGame(List<AIObject> aiList) {
-        commandExecutor = new ExecuteAICommand();
+        // The events are only created while the Flight Recorder runs, see FlightEvents
+        GameStartedEvent startedEvent = FlightEvents.isRecording() ? new GameStartedEvent() : null;
+        if (startedEvent != null) {
+            startedEvent.begin();
+        }
         initializeMemory(seed);
+        List<AIObject> gameAIs = new ArrayList<>(aiList.size());
         for (int i = 0; i < aiList.size(); i++) {
-            runningAIs.add(new AIObject(aiList.get(i), aiSymbols[2 * i], aiSymbols[2 * i + 1], i));
+            gameAIs.add(new AIObject(aiList.get(i), aiSymbolPairs.getSymbol(i), aiSymbolPairs.getBombSymbol(i), i));
         }
         phase = Phase.GAME;
-        for (int i = 0; i < runningAIs.size(); i++) {
+        assignNames(gameAIs);
+        if (journalDirectory != null) {
+            // The journal observes the loading of the programs, the initial cells follow from the seed
+            journal = GameJournal.open(journalDirectory, memoryArena, arenaType, seed, gameAIs);
+        }
+        for (int i = 0; i < gameAIs.size(); i++) {
             // Calculating the positions of the AIs in the memory
-            int positionConstant = (int) Math.floor(i * (double) memoryCells.length / aiList.size());
+            int positionConstant = (int) Math.floor(i * (double) memoryArena.getSize() / aiList.size());
             int firstNonstopIndex = -1;
             // Loaidng the commands of the AIs into the memory
-            for (AICommand aiCommand : runningAIs.get(i).getCommands()) {
-                memoryCells[positionConstant] = new MemoryCell(aiCommand.copy(), runningAIs.get(i).getSymbol());
+            for (AICommand aiCommand : gameAIs.get(i).getCommands()) {
+                memoryArena.setCommand(positionConstant, aiCommand.getCommandType(), aiCommand.getEntryA(), aiCommand.getEntryB());
+                memoryArena.setOwner(positionConstant, i, false);
                 if (aiCommand.getCommandType() != AICommandTypes.STOP && firstNonstopIndex == -1) {
                     firstNonstopIndex = positionConstant;
                 }
                 positionConstant++;
             }
-            runningAIs.get(i).setIndex(firstNonstopIndex);
+            gameAIs.get(i).setIndex(firstNonstopIndex);
+        }
+        turnRing.reset(gameAIs, 0);
+        currentIndex = gameAIs.get(0).getIndex();
+        gameSteps = 0;
+        if (recordHeatmaps) {
+            heatmaps = new Heatmaps(memoryArena, gameAIs.size());
+        }
+        if (recordHistory) {
+            history = new GameHistory(memoryArena);
+            history.record(gameSteps, gameAIs, stoppedAIs, turnRing.getTurn());
+        }
+        if (journal != null) {
+            journal.keyframe(gameSteps, gameAIs, turnRing.getTurn());
+        }
+        if (mirror != null) {
+            mirror.invalidate();
+            publishMirror();
+        }
+        if (startedEvent != null) {
+            startedEvent.record(gameAIs.size(), memoryArena.getSize(), seed, executionMode, arenaType);
         }
-        assignNames(runningAIs);
-        currentAIindex = 0;
-        currentIndex = runningAIs.get(0).getIndex();
     }
     /**
      * Private helper method for {@link #startGame(List)}, assigning names to the AIs in the list.
@@ -108,15 +183,15 @@ public final class Memory {
     /**
      * Private helper method for {@link #startGame(List)}, initializing with either STOP commands,
      * if the {@code seed} is 0, or randomly generated {@link AICommandTypes} with the {@code seed} otherwise.
+     * Repeated initializations with the same seed copy the cells from the {@link ArenaTemplates} of the memory.
      * @param seed seed of the initialization mode
      */
     private void initializeMemory(int seed) {
-        Random random = new Random(seed);
-        for (int i = 0; i < memoryCells.length; i++) {
-            AICommandTypes commandType = AICommandTypes.values()[seed == 0 ? 0 : random.nextInt(AICommandTypes.values().length)];
-            int entryA = seed == 0 ? 0 : random.nextInt();
-            int entryB = seed == 0 ? 0 : random.nextInt();
-            memoryCells[i] = new MemoryCell(InstantiateCommand.instantiateCommand(commandType, entryA, entryB), memorySymbols[0]);
+        // Lazy arenas derive their initial cells on demand, so copying a template would only slow them down
+        if (arenaType == ArenaType.LAZY) {
+            memoryArena.initialize(seed);
+        } else {
+            arenaTemplates.initialize(memoryArena, seed);
         }
         this.seed = seed;
     }
@@ -128,14 +203,25 @@ public final class Memory {
     public String endGame() {
         // Sort the AIs by their order in which they have been added to the game
         stoppedAIs.sort((firstAI, secondAI) -> Integer.compare(firstAI.getOrder(), secondAI.getOrder()));
+        List<AIObject> runningAIs = turnRing.asList();
         String message = END_GAME_PATTERN.formatted(
                 runningAIs.isEmpty() ? "" : STATUS_PATTERN.formatted(STATUS[0]) + buildString(runningAIs),
                 !runningAIs.isEmpty() && !stoppedAIs.isEmpty() ? System.lineSeparator() : "",
                 stoppedAIs.isEmpty() ? "" : STATUS_PATTERN.formatted(STATUS[1]) + buildString(stoppedAIs));
+        if (FlightEvents.isRecording()) {
+            new GameEndedEvent().record(gameSteps, runningAIs.size(), stoppedAIs.size());
+        }
         // Reset the memory and the lists of AIs
-        runningAIs.clear();
+        turnRing.clear();
         stoppedAIs.clear();
+        if (history != null) {
+            history.detach();
+            history = null;
+        }
+        heatmaps = null;
+        closeJournal();
         phase = Phase.INITIALIZING;
+        publishMirror();
         return message;
     }
     /**
@@ -154,37 +240,303 @@ public final class Memory {
     /**
      * The method executes a given amount of turns of the game.
      * If an AI stops during the execution, the method returns a message about the stopped AI.
+     * No objects are allocated per executed turn, only the message about stopped AIs is built
+     * and, if the history is enabled, a snapshot of the game is recorded every {@link #SNAPSHOT_INTERVAL} turns.
      * @param steps amount of turns to execute
      * @return message about the stopped AI or {@code null} if no AI stopped
      */
     public String next(int steps) {
-        List<AIObject> stoppedThisRound = new ArrayList<>();
-        for (int i = 0; i < steps && !runningAIs.isEmpty(); i++) {
-            Optional<AIObject> stoppedAI = commandExecutor.executeCommand(currentIndex, runningAIs.get(currentAIindex), memoryCells);
-            // If an AI has been stopped, remove it from the List of running AIs
-            if (stoppedAI.isPresent()) {
-                stoppedThisRound.add(stoppedAI.get());
-                stoppedAIs.add(stoppedAI.get());
-                runningAIs.remove(stoppedAI.get());
+        stoppedThisRound.clear();
+        execute(steps, 0, null);
+        // If there are AIs that have been stopped, return a message about them
+        if (stoppedThisRound.isEmpty()) {
+            return null;
+        }
+        return buildStopMessage();
+    }
+    /**
+     * Executes turns of the game until at most one AI is still running, a maximum amount of turns has been executed
+     * or a state of the game repeats. As the game is deterministic, a repeated state is a provable draw.
+     * The message lists the stopped AIs as in {@link #next(int)}, followed by the result of the repetition check.
+     * @param maxSteps maximum amount of turns to execute
+     * @return message about the stopped AIs and the repetition of the state
+     */
+    public String run(int maxSteps) {
+        stoppedThisRound.clear();
+        CycleDetector cycleDetector = new CycleDetector(memoryArena, turnRing);
+        int executed;
+        try {
+            executed = execute(maxSteps, 1, cycleDetector);
+        } finally {
+            cycleDetector.detach();
+        }
+        StringJoiner message = new StringJoiner(System.lineSeparator());
+        if (!stoppedThisRound.isEmpty()) {
+            message.add(buildStopMessage());
+        }
+        if (cycleDetector.getCycleLength() > 0) {
+            message.add(RUN_DRAW.formatted(executed, cycleDetector.getCycleLength()));
+        } else {
+            message.add(RUN_NO_REPETITION.formatted(executed));
+        }
+        return message.toString();
+    }
+    /**
+     * Executes turns of the game until at most one AI is still running, a maximum amount of turns has been executed
+     * or a state of the game repeats, which would repeat forever.
+     * Unlike {@link #next(int)}, no message about the stopped AIs is built.
+     * @param maxSteps maximum amount of turns to execute
+     * @return amount of executed turns
+     */
+    public int play(int maxSteps) {
+        stoppedThisRound.clear();
+        CycleDetector cycleDetector = new CycleDetector(memoryArena, turnRing);
+        try {
+            return execute(maxSteps, 1, cycleDetector);
+        } finally {
+            cycleDetector.detach();
+        }
+    }
+    /**
+     * Returns the amount of steps the current game can be rewound by, which is limited by the oldest recorded snapshot.
+     * @return Optional of the amount of steps that can be rewound or an empty Optional if no history is recorded
+     */
+    public Optional<Long> getRewindableSteps() {
+        if (history == null) {
+            return Optional.empty();
+        }
+        return Optional.of(history.getOldestStep().map(oldestStep -> gameSteps - oldestStep).orElse(0L));
+    }
+    /**
+     * Rewinds the current game by a given amount of steps. The latest snapshot before the target step is restored
+     * and only the remaining steps up to the target step are executed again.
+     * @param steps amount of steps to rewind, at most {@link #getRewindableSteps()}
+     * @return message about the rewound steps
+     */
+    public String rewind(int steps) {
+        long targetStep = gameSteps - steps;
+        List<AIObject> runningAIs = new ArrayList<>();
+        GameSnapshot snapshot = history.restore(targetStep, runningAIs, stoppedAIs);
+        turnRing.reset(runningAIs, snapshot.getTurn());
+        gameSteps = snapshot.getStep();
+        currentIndex = turnRing.isEmpty() ? -1 : turnRing.getCurrent().getIndex();
+        // The steps are executed again without being journaled, counted in the heatmaps and metrics
+        // or recorded as events, the journal continues with a keyframe of the target step
+        GameJournal activeJournal = journal;
+        Heatmaps activeHeatmaps = heatmaps;
+        Metrics activeMetrics = metrics;
+        journal = null;
+        heatmaps = null;
+        useMetrics(null);
+        rewinding = true;
+        try {
+            execute((int) (targetStep - gameSteps), 0, null);
+        } finally {
+            rewinding = false;
+            journal = activeJournal;
+            heatmaps = activeHeatmaps;
+            useMetrics(activeMetrics);
+        }
+        if (journal != null) {
+            journal.keyframe(gameSteps, turnRing.asList(), turnRing.getTurn());
+        }
+        publishMirror();
+        stoppedThisRound.clear();
+        return REWIND_MESSAGE.formatted(steps, gameSteps);
+    }
+    /**
+     * Closes the journal of the current game, so that it is indexed and complete even if the game is not ended.
+     * Does nothing if no journal is recorded.
+     */
+    public void closeJournal() {
+        if (journal != null) {
+            journal.close();
+            journal = null;
+        }
+    }
+    /**
+     * Sets the directory in which every game played on this memory, or on a memory created by
+     * {@link #createIsolatedMemory()}, is recorded as a binary journal.
+     * @param journalDirectory directory of the journals or {@code null} if no journals are recorded
+     */
+    public void setJournalDirectory(Path journalDirectory) {
+        this.journalDirectory = journalDirectory;
+    }
+    /**
+     * Mirrors the state of the games played on this memory into a memory-mapped file, which can be read
+     * by other local processes while the games are running. Games played on a memory created by
+     * {@link #createIsolatedMemory()} are not mirrored.
+     * @param file path of the mirror file, which is created or truncated
+     * @throws IOException if the file cannot be created or mapped
+     */
+    public void openMirror(Path file) throws IOException {
+        mirror = StateMirror.open(file, memoryArena, max);
+        publishMirror();
+    }
+    /**
+     * Reconstructs the state of a recorded game after a given amount of steps from its journal and returns
+     * a representation of the memory and the AIs of that state, marking the AI whose turn it is as {@link #getMemory(int)} does.
+     * Memories too large to be represented as a whole are represented from the index of the AI whose turn it is.
+     * @param file path of the journal
+     * @param step amount of executed steps to reconstruct the state after
+     * @return String representation of the reconstructed state
+     * @throws IOException if the journal cannot be read
+     */
+    public String replayJournal(Path file, int step) throws IOException {
+        JournalReader reader = JournalReader.seek(file, step);
+        List<AIObject> replayedAIs = new ArrayList<>();
+        StringJoiner aiStates = new StringJoiner(System.lineSeparator());
+        for (int order = 0; order < reader.getAIAmount(); order++) {
+            AIObject replayedAI = new AIObject(reader.getName(order));
+            replayedAI.setIndex(reader.getIndex(order));
+            replayedAI.setRunning(reader.isRunning(order));
+            replayedAIs.add(replayedAI);
+            aiStates.add(REPLAY_AI_PATTERN.formatted(reader.getName(order),
+                    STATUS[reader.isRunning(order) ? 0 : 1].toUpperCase(), reader.getCounter(order)));
+        }
+        int currentOrder = reader.getCurrentOrder();
+        int replayedIndex = currentOrder < 0 ? -1 : reader.getIndex(currentOrder);
+        StringRepresentator replayedRepresentator = new StringRepresentator(reader.getMemoryArena(), memorySymbols,
+                aiSymbolPairs, reader.getArenaType() != ArenaType.LAZY);
+        String replayedMemory = replayedRepresentator.canRepresentWhole()
+                ? replayedRepresentator.represent(-1, replayedIndex, replayedAIs)
+                : replayedRepresentator.represent(Math.max(replayedIndex, 0), replayedIndex, replayedAIs);
+        return String.join(System.lineSeparator(), REPLAY_PATTERN.formatted(reader.getStep()), replayedMemory,
+                aiStates.toString());
+    }
+    /**
+     * Private helper method, publishing a frame of the current state of the game to the {@link #mirror}, if one is open.
+     */
+    private void publishMirror() {
+        if (mirror != null) {
+            mirror.publish(gameSteps, getGameAIs(), turnRing.getCurrent());
+        }
+    }
+    /**
+     * Private helper method for {@link #next(int)} and {@link #run(int)}, building a message about the AIs
+     * stopped during the last execution.
+     * @return message about the stopped AIs
+     */
+    private String buildStopMessage() {
+        stopMessage.setLength(0);
+        for (AIObject currentAI : stoppedThisRound) {
+            if (stopMessage.length() > 0) {
+                stopMessage.append(System.lineSeparator());
             }
-
-            if (!runningAIs.isEmpty()) {
-                // Calculate the next index of the AI whose turn it is now
-                if (stoppedAI.isEmpty()) {
-                    currentAIindex = (currentAIindex + 1) % runningAIs.size();
+            stopMessage.append(currentAI.getName()).append(NEXT_INFIX).append(currentAI.getCounter() - 1).append(NEXT_SUFFIX);
+        }
+        return stopMessage.toString();
+    }
+    /**
+     * Private helper method for {@link #next(int)}, {@link #run(int)} and {@link #play(int)}, executing turns of the game
+     * until a given amount of turns has been executed, no more than a given amount of AIs is running
+     * or the state of the game repeats. The turns are executed in chunks ending at the steps
+     * at which a snapshot of the game is recorded, keeping the recording out of the loop over the turns.
+     * The whole execution is recorded as a single {@link StepBatchEvent}, if the Flight Recorder runs
+     * and the steps are not executed again by {@link #rewind(int)}.
+     * @param steps         amount of turns to execute
+     * @param remainingAIs  amount of running AIs at which the execution stops
+     * @param cycleDetector detector of repeated states or {@code null} if repetitions are not detected
+     * @return amount of executed turns
+     */
+    private int execute(int steps, int remainingAIs, CycleDetector cycleDetector) {
+        boolean recordEvents = !rewinding && FlightEvents.isRecording();
+        StepBatchEvent batchEvent = recordEvents ? new StepBatchEvent() : null;
+        if (batchEvent != null) {
+            batchEvent.begin();
+        }
+        int stoppedBeforeBatch = stoppedAIs.size();
+        int executed = 0;
+        while (executed < steps && turnRing.size() > remainingAIs
+                && (cycleDetector == null || cycleDetector.getCycleLength() < 0)) {
+            int untilSnapshot = (int) (SNAPSHOT_INTERVAL - gameSteps % SNAPSHOT_INTERVAL);
+            long chunkStart = metrics == null ? 0 : System.nanoTime();
+            int stoppedBefore = stoppedAIs.size();
+            int chunk = executeTurns(Math.min(steps - executed, untilSnapshot), remainingAIs, cycleDetector, recordEvents);
+            if (metrics != null) {
+                metrics.recordSteps(opcodeCounts, System.nanoTime() - chunkStart, stoppedAIs.size() - stoppedBefore);
+                Arrays.fill(opcodeCounts, 0);
+            }
+            executed += chunk;
+            gameSteps += chunk;
+            if (history != null && chunk == untilSnapshot) {
+                history.record(gameSteps, turnRing.asList(), stoppedAIs, turnRing.getTurn());
+            }
+            if (journal != null && chunk == untilSnapshot && gameSteps % KEYFRAME_INTERVAL == 0) {
+                journal.keyframe(gameSteps, turnRing.asList(), turnRing.getTurn());
+            }
+            publishMirror();
+        }
+        if (batchEvent != null) {
+            batchEvent.record(executed, stoppedAIs.size() - stoppedBeforeBatch, gameSteps);
+        }
+        return executed;
+    }
+    /**
+     * Private helper method for {@link #execute(int, int, CycleDetector)}, executing turns of the game
+     * until a given amount of turns has been executed, no more than a given amount of AIs is running
+     * or the state of the game repeats.
+     * Unless a turn has to be observed by the metrics, the heatmaps, the journal or the cycle detector,
+     * the turns are executed by the loop of the {@link Interpreter} until an AI stops.
+     * @param steps         amount of turns to execute
+     * @param remainingAIs  amount of running AIs at which the execution stops
+     * @param cycleDetector detector of repeated states or {@code null} if repetitions are not detected
+     * @param recordEvents  whether a stopped AI is recorded as an {@link AIStoppedEvent}
+     * @return amount of executed turns
+     */
+    private int executeTurns(int steps, int remainingAIs, CycleDetector cycleDetector, boolean recordEvents) {
+        if (opcodeCounts == null && heatmaps == null && journal == null && cycleDetector == null) {
+            int executed = 0;
+            while (executed < steps && turnRing.size() > remainingAIs) {
+                executed += interpreter.executeTurns(turnRing, steps - executed);
+                AIObject currentAI = turnRing.getCurrent();
+                if (!currentAI.getRunning()) {
+                    stopCurrentAI(currentAI, recordEvents);
                 }
-                currentAIindex %= runningAIs.size();
-                currentIndex = runningAIs.get(currentAIindex).getIndex();
+            }
+            currentIndex = turnRing.isEmpty() ? -1 : turnRing.getCurrent().getIndex();
+            return executed;
+        }
+        int executed = 0;
+        while (executed < steps && turnRing.size() > remainingAIs) {
+            AIObject currentAI = turnRing.getCurrent();
+            if (opcodeCounts != null) {
+                opcodeCounts[memoryArena.getOpcode(currentIndex)]++;
+            }
+            if (heatmaps != null) {
+                heatmaps.recordStep(currentAI.getOrder(), currentIndex);
+            }
+            // If an AI has been stopped, remove it from the ring of running AIs, the turn passes to the next AI either way
+            if (interpreter.executeTurn(currentAI)) {
+                stopCurrentAI(currentAI, recordEvents);
             } else {
-                currentIndex = -1;
+                turnRing.advance();
+            }
+            if (journal != null) {
+                journal.step(currentAI, turnRing.getCurrent());
+            }
+
+            currentIndex = turnRing.isEmpty() ? -1 : turnRing.getCurrent().getIndex();
+            executed++;
+            if (cycleDetector != null && cycleDetector.isRepeated(currentAI)) {
+                break;
             }
         }
-        // If there are AIs that have been stopped, return a message about them
-        StringJoiner stringJoiner = new StringJoiner(System.lineSeparator());
-        for (AIObject currentAI : stoppedThisRound) {
-            stringJoiner.add(NEXT_PATTERN.formatted(currentAI.getName(), currentAI.getCounter() - 1));
+        return executed;
+    }
+    /**
+     * Private helper method for {@link #executeTurns(int, int, CycleDetector, boolean)}, removing the stopped AI
+     * whose turn it is from the ring of running AIs, which passes the turn to the next AI.
+     * @param stoppedAI    the stopped AI
+     * @param recordEvents whether the AI is recorded as an {@link AIStoppedEvent}
+     */
+    private void stopCurrentAI(AIObject stoppedAI, boolean recordEvents) {
+        if (recordEvents) {
+            new AIStoppedEvent().record(stoppedAI.getName(), stoppedAI.getCounter() - 1, stoppedAI.getIndex());
         }
-        return stringJoiner.length() == 0 ? null : stringJoiner.toString();
+        stoppedThisRound.add(stoppedAI);
+        stoppedAIs.add(stoppedAI);
+        turnRing.removeCurrent();
     }
     /**
      * Returns the current state of a given AI as a String.
@@ -193,9 +545,9 @@ public final class Memory {
      * @return state of the AI as a String
      */
     public String showAI(AIObject currentAI) {
-        AICommand command = memoryCells[currentAI.getIndex()].getAICommand();
-        String nextCommand = AI_STATUS_COMMAND_PATTERN.formatted(
-                String.valueOf(command.getCommandType()), command.getEntryA(), command.getEntryB(), currentAI.getIndex());
+        int index = currentAI.getIndex();
+        String nextCommand = AI_STATUS_COMMAND_PATTERN.formatted(String.valueOf(memoryArena.getCommandType(index)),
+                memoryArena.getEntryA(index), memoryArena.getEntryB(index), index);
         return AI_STATUS_PATTERN.formatted(currentAI.getName(),
                 STATUS[currentAI.getRunning() ? 0 : 1].toUpperCase(), currentAI.getCounter(),
                 currentAI.getRunning() ? System.lineSeparator() + nextCommand : "");
@@ -203,11 +555,104 @@ public final class Memory {
     /**
      * Returns a string representation of the memory. If the given index is not -1, a more detailed
      * representation of the memory, from {@code index} , is returned.
+     * Memories larger than {@link StringRepresentator#WHOLE_VIEW_UPPER_BOUND} cells are not represented as a whole,
+     * so that only the detailed representation is returned for them.
      * @param index index of the representation
-     * @return String representation of the memory
+     * @return Optional of the String representation of the memory or an empty Optional if the index is -1
+     *         and the memory is too large to be represented as a whole
+     */
+    public Optional<String> getMemory(int index) {
+        if (index == -1 && !stringRepresentator.canRepresentWhole()) {
+            return Optional.empty();
+        }
+        return Optional.of(stringRepresentator.represent(index, currentIndex, turnRing.asList()));
+    }
+    /**
+     * Creates a new memory with the same size, symbols, {@link ExecutionMode}, {@link ArenaType} and initialization as this memory,
+     * but without any AIs, enabling games to be played independently of this memory.
+     * The new memory shares the {@link ArenaTemplates} of this memory, so that repeated games reuse the same template.
+     * @return the new memory
+     */
+    public Memory createIsolatedMemory() {
+        Memory memory = new Memory(memoryArena.getSize(), memorySymbols, aiSymbols, executionMode, arenaType);
+        memory.setInitMode(initMode);
+        memory.setSeed(seed);
+        memory.arenaTemplates = arenaTemplates;
+        memory.journalDirectory = journalDirectory;
+        memory.useMetrics(metrics);
+        return memory;
+    }
+    /**
+     * Returns the AIs of the current game, running or stopped, in the order in which they have been added to the game.
+     * @return unmodifiable list of the AIs of the current game
+     */
+    public List<AIObject> getGameAIs() {
+        List<AIObject> gameAIs = new ArrayList<>(turnRing.asList());
+        gameAIs.addAll(stoppedAIs);
+        gameAIs.sort((firstAI, secondAI) -> Integer.compare(firstAI.getOrder(), secondAI.getOrder()));
+        return Collections.unmodifiableList(gameAIs);
+    }
+    /**
+     * Enables collecting the {@link Metrics} of the games of the memory and of all memories isolated from it afterwards.
+     */
+    public void enableMetrics() {
+        useMetrics(new Metrics());
+    }
+    /**
+     * Private helper method, collecting the metrics of the games of the memory in given metrics.
+     * @param metrics the metrics to collect in or {@code null} if no metrics are collected
+     */
+    private void useMetrics(Metrics metrics) {
+        this.metrics = metrics;
+        opcodeCounts = metrics == null ? null : new long[AICommandTypes.values().length];
+    }
+    /**
+     * Returns the collected metrics.
+     * @return Optional of the metrics or an empty Optional if no metrics are collected
+     */
+    public Optional<Metrics> getMetrics() {
+        return Optional.ofNullable(metrics);
+    }
+    /**
+     * Enables recording snapshots of the games of the memory, starting with the next game, so that they can be rewound.
+     * The snapshots only copy the pages of the arena written during the game.
+     */
+    public void enableHistory() {
+        recordHistory = true;
+    }
+    /**
+     * Enables counting per AI how often each cell is executed, read and written in the games of the memory,
+     * starting with the next game. Steps undone by {@link #rewind(int)} stay counted.
+     */
+    public void enableHeatmaps() {
+        recordHeatmaps = true;
+    }
+    /**
+     * Returns a String representation of the heatmaps of a given AI in the current game. If the given index is not -1,
+     * the counts of the cells from {@code index} are listed.
+     * @param currentAI the AI to show the heatmaps of
+     * @param index     index of the representation
+     * @return Optional of the representation or an empty Optional if no heatmaps are recorded
+     */
+    public Optional<String> getHeatmap(AIObject currentAI, int index) {
+        if (heatmaps == null) {
+            return Optional.empty();
+        }
+        return Optional.of(heatmaps.represent(currentAI.getOrder(), index));
+    }
+    /**
+     * Returns the amount of steps executed in the current game, or in the last game if no game is running.
+     * @return amount of executed steps
+     */
+    public long getGameSteps() {
+        return gameSteps;
+    }
+    /**
+     * Returns the amount of cells owned by each AI of the current game.
+     * @return amount of owned cells, indexed by the order in which the AIs have been added to the game
      */
-    public String getMemory(int index) {
-        return new StringRepresentator(memoryCells, runningAIs, memorySymbols).represent(index, currentIndex);
+    public int[] getTerritories() {
+        return memoryArena.countTerritories(turnRing.size() + stoppedAIs.size());
     }
     /**
      * Getter of the {@link #phase}.
@@ -235,7 +680,7 @@ public final class Memory {
      * @return size of the memory
      */
     public int getSize() {
-        return memoryCells.length;
+        return memoryArena.getSize();
     }
     /**
      * Getter of the maximum amount of playable AIs {@link #max}.
@@ -292,7 +737,7 @@ public final class Memory {
      * @return Optional of the AI or an empty Optional if no such AI exists
      */
     public Optional<AIObject> getNameAI(String name) {
-        return getAI(name, getAI(name, runningAIs).isEmpty() ? stoppedAIs : runningAIs);
+        return getAI(name, getAI(name, turnRing.asList()).isEmpty() ? stoppedAIs : turnRing.asList());
     }
     /**
      * Getter of the {@link #aiList}.
@@ -0,0 +1,383 @@
+package kit.edu.informatik.model.memory;
+
+import kit.edu.informatik.model.AICommandTypes;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * The class models the cells of the {@link Memory} as primitive values.
+ * A cell consists of the opcode of its command, the two entries of the command and a mark of two bytes,
+ * holding the owner in its upper fifteen bits and the bomb flag in its lowest bit.
+ * The mark is resolved to a symbol only when the memory is represented.
+ * Subclasses define where the primitive values are stored.
+ *
+ * @author uqtwh
+ * @version 1.0
+ */
+public abstract class MemoryArena {
+    private static final AICommandTypes[] COMMAND_TYPES = AICommandTypes.values();
+    private static final int MAX_OWNERS = Short.MAX_VALUE;
+    private static final int UNSIGNED_MASK = 0xFFFF;
+    private static final int OWNER_SHIFT = 1;
+    private static final int BOMB_MASK = 1;
+    private static final int NO_OWNER = -1;
+    private final int size;
+    private CellObserver[] observers = new CellObserver[0];
+
+    /**
+     * Constructor of the class.
+     * @param size amount of cells of the arena
+     */
+    protected MemoryArena(int size) {
+        this.size = size;
+    }
+
+    /**
+     * Creates an arena of STOP commands without owners.
+     * @param size      amount of cells of the arena
+     * @param arenaType where the cells of the arena are stored
+     * @return the new arena
+     */
+    public static MemoryArena create(int size, ArenaType arenaType) {
+        return switch (arenaType) {
+            case OFF_HEAP -> new OffHeapMemoryArena(size);
+            case LAZY -> new LazyMemoryArena(size);
+            default -> new HeapMemoryArena(size);
+        };
+    }
+
+    /**
+     * Returns the maximum amount of AIs whose ownership can be stored in the arena.
+     * @return maximum amount of owners
+     */
+    public static int getMaxOwners() {
+        return MAX_OWNERS;
+    }
+
+    /**
+     * Returns the amount of cells of the arena.
+     * @return size of the arena
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Initializes the arena for a new game, with STOP commands if the seed is 0 and with random commands
+     * generated by {@link Random} with the seed otherwise, removing all owners.
+     * The random commands are generated in parallel by the {@link RandomInitializer}.
+     * @param seed seed of the initialization
+     */
+    public void initialize(int seed) {
+        if (seed == 0) {
+            for (int i = 0; i < size; i++) {
+                storeCommand(i, AICommandTypes.STOP.ordinal(), 0, 0);
+                storeMark(i, (short) 0);
+            }
+        } else {
+            RandomInitializer.fill(this, seed);
+        }
+        allWritten();
+    }
+
+    /**
+     * Returns the ordinal of the {@link AICommandTypes} stored at a given index.
+     * @param index index of the cell
+     * @return opcode of the cell
+     */
+    public abstract int getOpcode(int index);
+
+    /**
+     * Returns the {@link AICommandTypes} stored at a given index.
+     * @param index index of the cell
+     * @return command type of the cell
+     */
+    public AICommandTypes getCommandType(int index) {
+        return COMMAND_TYPES[getOpcode(index)];
+    }
+
+    /**
+     * Returns the first entry of the command at a given index.
+     * @param index index of the cell
+     * @return entry A of the cell
+     */
+    public abstract int getEntryA(int index);
+
+    /**
+     * Returns the second entry of the command at a given index.
+     * @param index index of the cell
+     * @return entry B of the cell
+     */
+    public abstract int getEntryB(int index);
+
+    /**
+     * Sets the first entry of the command at a given index.
+     * @param index  index of the cell
+     * @param entryA new entry A of the cell
+     */
+    public void setEntryA(int index, int entryA) {
+        writing(index);
+        storeEntryA(index, entryA);
+        written(index);
+    }
+
+    /**
+     * Sets the second entry of the command at a given index.
+     * @param index  index of the cell
+     * @param entryB new entry B of the cell
+     */
+    public void setEntryB(int index, int entryB) {
+        writing(index);
+        storeEntryB(index, entryB);
+        written(index);
+    }
+
+    /**
+     * Stores a command at a given index, leaving the owner of the cell untouched.
+     * @param index       index of the cell
+     * @param commandType type of the command
+     * @param entryA      first entry of the command
+     * @param entryB      second entry of the command
+     */
+    public void setCommand(int index, AICommandTypes commandType, int entryA, int entryB) {
+        writing(index);
+        storeCommand(index, commandType.ordinal(), entryA, entryB);
+        written(index);
+    }
+
+    /**
+     * Copies the command of a cell to another cell, leaving the owner of the target cell untouched.
+     * @param sourceIndex index of the cell to copy from
+     * @param targetIndex index of the cell to copy to
+     */
+    public void copyCommand(int sourceIndex, int targetIndex) {
+        writing(targetIndex);
+        storeCommand(targetIndex, getOpcode(sourceIndex), getEntryA(sourceIndex), getEntryB(sourceIndex));
+        written(targetIndex);
+    }
+
+    /**
+     * Returns the order of the AI owning the cell at a given index.
+     * @param index index of the cell
+     * @return order of the owning AI or -1 if the cell has not been written by an AI
+     */
+    public int getOwner(int index) {
+        return ((loadMark(index) & UNSIGNED_MASK) >>> OWNER_SHIFT) + NO_OWNER;
+    }
+
+    /**
+     * Returns whether the cell at a given index was marked as a bomb by its owner.
+     * @param index index of the cell
+     * @return {@code true} if the cell is a bomb, {@code false} otherwise
+     */
+    public boolean isBomb(int index) {
+        return (loadMark(index) & BOMB_MASK) != 0;
+    }
+
+    /**
+     * Marks the cell at a given index as owned by the AI with the given order.
+     * @param index index of the cell
+     * @param order order of the owning AI
+     * @param bomb  whether the cell is a bomb
+     */
+    public void setOwner(int index, int order, boolean bomb) {
+        storeMark(index, (short) ((order - NO_OWNER) << OWNER_SHIFT | (bomb ? BOMB_MASK : 0)));
+    }
+
+    /**
+     * Marks the cell at a given index as owned by the AI with the given order after it has written the cell,
+     * marking it as a bomb if its command stops or traps an AI.
+     * @param index index of the cell
+     * @param order order of the writing AI
+     */
+    public void claim(int index, int order) {
+        setOwner(index, order, commandIsBomb(index));
+    }
+
+    /**
+     * Removes the owner of the cell at a given index.
+     * @param index index of the cell
+     */
+    public void clearOwner(int index) {
+        storeMark(index, (short) 0);
+    }
+
+    /**
+     * Counts the cells owned by each AI in a single pass over the marks of the arena.
+     * @param owners amount of AIs to count the cells of
+     * @return amount of owned cells, indexed by the order of the owning AI
+     */
+    public int[] countTerritories(int owners) {
+        int[] territories = new int[MAX_OWNERS + 1];
+        for (int i = 0; i < size; i++) {
+            territories[(loadMark(i) & UNSIGNED_MASK) >>> OWNER_SHIFT]++;
+        }
+        return Arrays.copyOfRange(territories, -NO_OWNER, owners - NO_OWNER);
+    }
+
+    /**
+     * Copies consecutive cells, including their owner and bomb marks, into the given arrays,
+     * whose common length determines the amount of copied cells.
+     * @param firstIndex index of the first cell to copy
+     * @param opcodes    array to copy the opcodes to
+     * @param entriesA   array to copy the first entries to
+     * @param entriesB   array to copy the second entries to
+     * @param marks      array to copy the raw marks to
+     */
+    void copyCells(int firstIndex, byte[] opcodes, int[] entriesA, int[] entriesB, short[] marks) {
+        for (int i = 0; i < opcodes.length; i++) {
+            opcodes[i] = (byte) getOpcode(firstIndex + i);
+            entriesA[i] = getEntryA(firstIndex + i);
+            entriesB[i] = getEntryB(firstIndex + i);
+            marks[i] = loadMark(firstIndex + i);
+        }
+    }
+
+    /**
+     * Restores a cell, including its owner and bomb mark, from a copy.
+     * @param index  index of the cell
+     * @param opcode ordinal of the {@link AICommandTypes} of the command
+     * @param entryA first entry of the command
+     * @param entryB second entry of the command
+     * @param mark   raw mark of the cell
+     */
+    void restoreCell(int index, int opcode, int entryA, int entryB, short mark) {
+        writing(index);
+        storeCommand(index, opcode, entryA, entryB);
+        storeMark(index, mark);
+        written(index);
+    }
+
+    /**
+     * Restores all cells, including their owner and bomb marks, from copies whose common length is the size of the arena,
+     * notifying the observers that all cells have been written.
+     * @param opcodes  copied opcodes
+     * @param entriesA copied first entries
+     * @param entriesB copied second entries
+     * @param marks    copied raw marks
+     */
+    void restoreAllCells(byte[] opcodes, int[] entriesA, int[] entriesB, short[] marks) {
+        storeCells(0, opcodes, entriesA, entriesB, marks);
+        allWritten();
+    }
+
+    /**
+     * Adds a {@link CellObserver} which is notified before and after the command of a cell is written.
+     * @param observer the observer to add
+     */
+    public void addObserver(CellObserver observer) {
+        observers = Arrays.copyOf(observers, observers.length + 1);
+        observers[observers.length - 1] = observer;
+    }
+
+    /**
+     * Removes a {@link CellObserver}, which is no longer notified afterwards.
+     * @param observer the observer to remove
+     */
+    public void removeObserver(CellObserver observer) {
+        for (int i = 0; i < observers.length; i++) {
+            if (observers[i] == observer) {
+                CellObserver[] remaining = new CellObserver[observers.length - 1];
+                System.arraycopy(observers, 0, remaining, 0, i);
+                System.arraycopy(observers, i + 1, remaining, i, remaining.length - i);
+                observers = remaining;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Stores the first entry of the command at a given index.
+     * @param index  index of the cell
+     * @param entryA new entry A of the cell
+     */
+    protected abstract void storeEntryA(int index, int entryA);
+
+    /**
+     * Stores the second entry of the command at a given index.
+     * @param index  index of the cell
+     * @param entryB new entry B of the cell
+     */
+    protected abstract void storeEntryB(int index, int entryB);
+
+    /**
+     * Stores the opcode and the entries of the command at a given index.
+     * @param index  index of the cell
+     * @param opcode ordinal of the {@link AICommandTypes} of the command
+     * @param entryA first entry of the command
+     * @param entryB second entry of the command
+     */
+    protected abstract void storeCommand(int index, int opcode, int entryA, int entryB);
+
+    /**
+     * Loads the raw mark of the cell at a given index.
+     * @param index index of the cell
+     * @return raw mark, 0 if the cell has no owner
+     */
+    protected abstract short loadMark(int index);
+
+    /**
+     * Stores the raw mark of the cell at a given index.
+     * @param index index of the cell
+     * @param mark  raw mark, encoding the owner and the bomb flag
+     */
+    protected abstract void storeMark(int index, short mark);
+
+    /**
+     * Stores consecutive cells, including their owner and bomb marks, from the given arrays,
+     * whose common length determines the amount of stored cells.
+     * @param firstIndex index of the first cell to store
+     * @param opcodes    opcodes of the cells
+     * @param entriesA   first entries of the cells
+     * @param entriesB   second entries of the cells
+     * @param marks      raw marks of the cells
+     */
+    protected void storeCells(int firstIndex, byte[] opcodes, int[] entriesA, int[] entriesB, short[] marks) {
+        for (int i = 0; i < opcodes.length; i++) {
+            storeCommand(firstIndex + i, opcodes[i], entriesA[i], entriesB[i]);
+            storeMark(firstIndex + i, marks[i]);
+        }
+    }
+
+    /**
+     * Notifies the {@link #observers} that the commands of all cells have been replaced at once.
+     */
+    protected void allWritten() {
+        for (CellObserver observer : observers) {
+            observer.allCellsWritten(size);
+        }
+    }
+
+    /**
+     * Private helper method, notifying the {@link #observers} that the command of a cell is about to be written.
+     * @param index index of the cell about to be written
+     */
+    private void writing(int index) {
+        for (CellObserver observer : observers) {
+            observer.cellWriting(index);
+        }
+    }
+
+    /**
+     * Private helper method, notifying the {@link #observers} that the command of a cell has been written.
+     * @param index index of the written cell
+     */
+    private void written(int index) {
+        for (CellObserver observer : observers) {
+            observer.cellWritten(index);
+        }
+    }
+
+    /**
+     * Private helper method for {@link #claim(int, int)}, checking if the command at a given index is a bomb.
+     * @param index index of the command to check
+     * @return {@code true} if the command is a bomb, {@code false} otherwise
+     */
+    private boolean commandIsBomb(int index) {
+        int opcode = getOpcode(index);
+        return opcode == AICommandTypes.STOP.ordinal()
+                || (opcode == AICommandTypes.JMP.ordinal() && getEntryA(index) == 0)
+                || (opcode == AICommandTypes.JMZ.ordinal() && getEntryA(index) == 0 && getEntryB(index) == 0);
+    }
+}
@@ -0,0 +1,60 @@
+package kit.edu.informatik.model.memory;
+
+import kit.edu.informatik.model.AICommandTypes;
+import kit.edu.informatik.model.AIObject;
+import kit.edu.informatik.model.InstantiateCommand;
+import kit.edu.informatik.model.aicommands.AICommand;
+
+/**
+ * The class executes the commands of the {@link MemoryArena} by the corresponding {@link AICommand} objects,
+ * one per {@link AICommandTypes}, which read their entries from the arena.
+ * Implements interface {@link Interpreter}.
+ *
+ * @author uqtwh
+ * @version 1.0
+ */
+final class ObjectInterpreter implements Interpreter {
+    private final AICommand[] commands = new AICommand[AICommandTypes.values().length];
+    private final MemoryArena memoryArena;
+
+    /**
+     * Constructor of the class, creating one executing {@link AICommand} per {@link AICommandTypes}.
+     * @param memoryArena the memory arena to execute the commands of
+     */
+    ObjectInterpreter(MemoryArena memoryArena) {
+        this.memoryArena = memoryArena;
+        for (AICommandTypes commandType : AICommandTypes.values()) {
+            commands[commandType.ordinal()] = InstantiateCommand.instantiateCommand(commandType, 0, 0);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param currentAI {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean executeTurn(AIObject currentAI) {
+        commands[memoryArena.getOpcode(currentAI.getIndex())].execute(currentAI, memoryArena);
+        return Interpreter.completeTurn(currentAI, memoryArena.getSize());
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param turnRing {@inheritDoc}
+     * @param steps    {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public int executeTurns(TurnRing turnRing, int steps) {
+        for (int executed = 1; executed <= steps; executed++) {
+            AIObject currentAI = turnRing.getCurrent();
+            commands[memoryArena.getOpcode(currentAI.getIndex())].execute(currentAI, memoryArena);
+            if (Interpreter.completeTurn(currentAI, memoryArena.getSize())) {
+                return executed;
+            }
+            turnRing.advance();
+        }
+        return steps;
+    }
+}
@@ -0,0 +1,163 @@
+package kit.edu.informatik.model.memory;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * The class stores the cells of a {@link MemoryArena} in direct buffers outside of the Java heap,
+ * so that arenas of hundreds of millions of cells neither inflate the heap nor the garbage collection times.
+ * The cells are split into chunks, as a single buffer can hold at most {@link Integer#MAX_VALUE} bytes.
+ *
+ * @author uqtwh
+ * @version 1.0
+ */
+final class OffHeapMemoryArena extends MemoryArena {
+    private static final int CHUNK_SHIFT = 24;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    private static final int SHORT_SHIFT = 1;
+    private static final int INT_SHIFT = 2;
+    private final ByteBuffer[] opcodes;
+    private final ByteBuffer[] entriesA;
+    private final ByteBuffer[] entriesB;
+    private final ByteBuffer[] marks;
+
+    /**
+     * Constructor of the class, creating an arena of STOP commands without owners.
+     * @param size amount of cells of the arena
+     */
+    OffHeapMemoryArena(int size) {
+        super(size);
+        int chunks = (int) (((long) size + CHUNK_MASK) >>> CHUNK_SHIFT);
+        opcodes = new ByteBuffer[chunks];
+        entriesA = new ByteBuffer[chunks];
+        entriesB = new ByteBuffer[chunks];
+        marks = new ByteBuffer[chunks];
+        for (int i = 0; i < chunks; i++) {
+            int cells = Math.min(CHUNK_SIZE, size - (i << CHUNK_SHIFT));
+            opcodes[i] = allocate(cells);
+            entriesA[i] = allocate(cells << INT_SHIFT);
+            entriesB[i] = allocate(cells << INT_SHIFT);
+            marks[i] = allocate(cells << SHORT_SHIFT);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param index {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public int getOpcode(int index) {
+        return opcodes[index >>> CHUNK_SHIFT].get(index & CHUNK_MASK);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param index {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public int getEntryA(int index) {
+        return entriesA[index >>> CHUNK_SHIFT].getInt((index & CHUNK_MASK) << INT_SHIFT);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param index {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public int getEntryB(int index) {
+        return entriesB[index >>> CHUNK_SHIFT].getInt((index & CHUNK_MASK) << INT_SHIFT);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param index  {@inheritDoc}
+     * @param entryA {@inheritDoc}
+     */
+    @Override
+    protected void storeEntryA(int index, int entryA) {
+        entriesA[index >>> CHUNK_SHIFT].putInt((index & CHUNK_MASK) << INT_SHIFT, entryA);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param index  {@inheritDoc}
+     * @param entryB {@inheritDoc}
+     */
+    @Override
+    protected void storeEntryB(int index, int entryB) {
+        entriesB[index >>> CHUNK_SHIFT].putInt((index & CHUNK_MASK) << INT_SHIFT, entryB);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param index  {@inheritDoc}
+     * @param opcode {@inheritDoc}
+     * @param entryA {@inheritDoc}
+     * @param entryB {@inheritDoc}
+     */
+    @Override
+    protected void storeCommand(int index, int opcode, int entryA, int entryB) {
+        int chunk = index >>> CHUNK_SHIFT;
+        int offset = index & CHUNK_MASK;
+        opcodes[chunk].put(offset, (byte) opcode);
+        entriesA[chunk].putInt(offset << INT_SHIFT, entryA);
+        entriesB[chunk].putInt(offset << INT_SHIFT, entryB);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param index {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    protected short loadMark(int index) {
+        return marks[index >>> CHUNK_SHIFT].getShort((index & CHUNK_MASK) << SHORT_SHIFT);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param index {@inheritDoc}
+     * @param mark  {@inheritDoc}
+     */
+    @Override
+    protected void storeMark(int index, short mark) {
+        marks[index >>> CHUNK_SHIFT].putShort((index & CHUNK_MASK) << SHORT_SHIFT, mark);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The cells are stored by bulk copies into each chunk they cover.
+     * @param firstIndex {@inheritDoc}
+     * @param opcodes    {@inheritDoc}
+     * @param entriesA   {@inheritDoc}
+     * @param entriesB   {@inheritDoc}
+     * @param marks      {@inheritDoc}
+     */
+    @Override
+    protected void storeCells(int firstIndex, byte[] opcodes, int[] entriesA, int[] entriesB, short[] marks) {
+        int stored = 0;
+        while (stored < opcodes.length) {
+            int chunk = (firstIndex + stored) >>> CHUNK_SHIFT;
+            int offset = (firstIndex + stored) & CHUNK_MASK;
+            int cells = Math.min(opcodes.length - stored, CHUNK_SIZE - offset);
+            this.opcodes[chunk].put(offset, opcodes, stored, cells);
+            this.entriesA[chunk].asIntBuffer().put(offset, entriesA, stored, cells);
+            this.entriesB[chunk].asIntBuffer().put(offset, entriesB, stored, cells);
+            this.marks[chunk].asShortBuffer().put(offset, marks, stored, cells);
+            stored += cells;
+        }
+    }
+
+    /**
+     * Private helper method for the constructor, allocating a zeroed direct buffer in the native byte order.
+     * @param bytes capacity of the buffer
+     * @return the allocated buffer
+     */
+    private static ByteBuffer allocate(int bytes) {
+        return ByteBuffer.allocateDirect(bytes).order(ByteOrder.nativeOrder());
+    }
+}
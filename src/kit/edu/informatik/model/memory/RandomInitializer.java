@@ -0,0 +1,126 @@
+package kit.edu.informatik.model.memory;
+
+import kit.edu.informatik.model.AICommandTypes;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+/**
+ * The class fills a {@link MemoryArena} with the random commands of a seed in parallel blocks on the common fork-join pool,
+ * generating exactly the commands of a sequential {@link Random} with the seed, independent of the amount of threads.
+ * Each cell draws a command type and two entries from the sequence of the generator, so the position of a block
+ * in the sequence is known up to the rare draws of command types rejected by {@link Random#nextInt(int)}.
+ * Every block is therefore filled from the position implied by the rejections counted in the blocks before it,
+ * and refilled while that position changes, which it almost never does.
+ *
+ * @author uqtwh
+ * @version 1.0
+ */
+final class RandomInitializer {
+    private static final int COMMAND_TYPES = AICommandTypes.values().length;
+    private static final long MULTIPLIER = 0x5DEECE66DL;
+    private static final long ADDEND = 0xBL;
+    private static final long STATE_MASK = (1L << 48) - 1;
+    private static final int TYPE_SHIFT = 48 - 31;
+    private static final int ENTRY_SHIFT = 48 - 32;
+    private static final int DRAWS_PER_CELL = 3;
+    private static final int BLOCK_SIZE = 1 << 16;
+    private static final long UNFILLED = -1;
+
+    /**
+     * Private constructor, not accessible.
+     */
+    private RandomInitializer() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Fills all cells of an arena with the random commands of a seed and removes their owners,
+     * without notifying the observers of the arena.
+     * @param memoryArena the arena to fill
+     * @param seed        seed of the random commands
+     */
+    static void fill(MemoryArena memoryArena, int seed) {
+        int blocks = (int) ((memoryArena.getSize() + (long) BLOCK_SIZE - 1) / BLOCK_SIZE);
+        long[] positions = new long[blocks];
+        long[] filledPositions = new long[blocks];
+        int[] rejections = new int[blocks];
+        for (int i = 0; i < blocks; i++) {
+            positions[i] = (long) i * BLOCK_SIZE * DRAWS_PER_CELL;
+        }
+        Arrays.fill(filledPositions, UNFILLED);
+
+        boolean misplaced = true;
+        while (misplaced) {
+            IntStream.range(0, blocks)
+                    .parallel()
+                    .filter(block -> filledPositions[block] != positions[block])
+                    .forEach(block -> {
+                        rejections[block] = fillBlock(memoryArena, seed, block, positions[block]);
+                        filledPositions[block] = positions[block];
+                    });
+            misplaced = false;
+            for (int i = 1; i < blocks; i++) {
+                positions[i] = positions[i - 1] + (long) BLOCK_SIZE * DRAWS_PER_CELL + rejections[i - 1];
+                misplaced |= filledPositions[i] != positions[i];
+            }
+        }
+    }
+
+    /**
+     * Private helper method for {@link #fill(MemoryArena, int)}, filling the cells of a block as {@link Random} would
+     * from a given position of its sequence on.
+     * @param memoryArena the arena to fill
+     * @param seed        seed of the random commands
+     * @param block       index of the block
+     * @param position    amount of draws of the generator before the first cell of the block
+     * @return amount of rejected draws of command types within the block
+     */
+    private static int fillBlock(MemoryArena memoryArena, int seed, int block, long position) {
+        long state = skip((seed ^ MULTIPLIER) & STATE_MASK, position);
+        int rejected = 0;
+        int end = (int) Math.min(memoryArena.getSize(), (long) (block + 1) * BLOCK_SIZE);
+        for (int i = block * BLOCK_SIZE; i < end; i++) {
+            // Drawing the command type as Random#nextInt(int) does for bounds which are no power of two,
+            // rejecting draws from the incomplete last range
+            state = (state * MULTIPLIER + ADDEND) & STATE_MASK;
+            int draw = (int) (state >>> TYPE_SHIFT);
+            while (draw - draw % COMMAND_TYPES + COMMAND_TYPES - 1 < 0) {
+                rejected++;
+                state = (state * MULTIPLIER + ADDEND) & STATE_MASK;
+                draw = (int) (state >>> TYPE_SHIFT);
+            }
+            state = (state * MULTIPLIER + ADDEND) & STATE_MASK;
+            int entryA = (int) (state >>> ENTRY_SHIFT);
+            state = (state * MULTIPLIER + ADDEND) & STATE_MASK;
+            int entryB = (int) (state >>> ENTRY_SHIFT);
+            memoryArena.storeCommand(i, draw % COMMAND_TYPES, entryA, entryB);
+            memoryArena.storeMark(i, (short) 0);
+        }
+        return rejected;
+    }
+
+    /**
+     * Private helper method for {@link #fillBlock(MemoryArena, int, int, long)}, advancing the state of the
+     * linear congruential generator by a given amount of draws in logarithmic time.
+     * @param state the state to advance
+     * @param draws amount of draws to skip
+     * @return the advanced state
+     */
+    private static long skip(long state, long draws) {
+        long multiplier = 1;
+        long addend = 0;
+        long stepMultiplier = MULTIPLIER;
+        long stepAddend = ADDEND;
+        for (long remaining = draws; remaining > 0; remaining >>>= 1) {
+            if ((remaining & 1) != 0) {
+                multiplier *= stepMultiplier;
+                addend = addend * stepMultiplier + stepAddend;
+            }
+            stepAddend *= stepMultiplier + 1;
+            stepMultiplier *= stepMultiplier;
+        }
+        return (state * multiplier + addend) & STATE_MASK;
+    }
+}
@@ -0,0 +1,136 @@
+package kit.edu.informatik.model.memory;
+
+import kit.edu.informatik.model.AIObject;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The class maintains a Zobrist-style hash of the state of a game, meaning the commands of all cells,
+ * the indices of the running AIs and the turn index.
+ * Only states hashed by the same instance are compared, so the cells are hashed relative to the state in which
+ * the hashing started: right before a cell is written its share is removed from the hash and right afterwards
+ * its new share is added, so that cells which have never been written add nothing and are never read.
+ * The share of each running AI is kept separately, so that a step only exchanges the share of the AI which executed it.
+ * The owners of the cells and the counters of the AIs are not part of the state, as they do not influence the game.
+ *
+ * @author uqtwh
+ * @version 1.0
+ */
+final class StateHash implements CellObserver {
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final long FIRST_MULTIPLIER = 0xBF58476D1CE4E5B9L;
+    private static final long SECOND_MULTIPLIER = 0x94D049BB133111EBL;
+    private static final int FIRST_SHIFT = 30;
+    private static final int SECOND_SHIFT = 27;
+    private static final int THIRD_SHIFT = 31;
+    private static final int INT_BITS = 32;
+    private final MemoryArena memoryArena;
+    private long cellsHash;
+    private int[] hashedIndices = new int[0];
+    private long aisHash;
+
+    /**
+     * Constructor of the class, observing the given arena for written cells without reading any cell.
+     * @param memoryArena the memory arena to hash
+     */
+    StateHash(MemoryArena memoryArena) {
+        this.memoryArena = memoryArena;
+        memoryArena.addObserver(this);
+    }
+
+    /**
+     * Removes the share of a cell about to be written from the hash.
+     * @param index index of the cell about to be written
+     */
+    @Override
+    public void cellWriting(int index) {
+        cellsHash ^= hashCell(index);
+    }
+
+    /**
+     * Adds the share of a written cell to the hash.
+     * @param index index of the written cell
+     */
+    @Override
+    public void cellWritten(int index) {
+        cellsHash ^= hashCell(index);
+    }
+
+    /**
+     * Hashes the indices of the given running AIs, replacing the shares of all AIs in the hash.
+     * @param runningAIs the running AIs
+     */
+    void track(List<AIObject> runningAIs) {
+        aisHash = 0;
+        for (AIObject currentAI : runningAIs) {
+            if (hashedIndices.length <= currentAI.getOrder()) {
+                hashedIndices = Arrays.copyOf(hashedIndices, currentAI.getOrder() + 1);
+            }
+            hashedIndices[currentAI.getOrder()] = currentAI.getIndex();
+            aisHash ^= hashAI(currentAI.getOrder(), currentAI.getIndex());
+        }
+    }
+
+    /**
+     * Exchanges the share of an AI after it executed a step, removing it if the AI has been stopped.
+     * @param movedAI the AI which executed the step
+     */
+    void moved(AIObject movedAI) {
+        int order = movedAI.getOrder();
+        aisHash ^= hashAI(order, hashedIndices[order]);
+        if (movedAI.getRunning()) {
+            hashedIndices[order] = movedAI.getIndex();
+            aisHash ^= hashAI(order, movedAI.getIndex());
+        }
+    }
+
+    /**
+     * Returns the hash of the current state of the game.
+     * @param turn index of the running AI whose turn it is
+     * @return hash of the state
+     */
+    long hash(int turn) {
+        return mix(mix(cellsHash ^ aisHash) ^ turn);
+    }
+
+    /**
+     * Stops observing the arena, after which the hash is no longer updated.
+     */
+    void detach() {
+        memoryArena.removeObserver(this);
+    }
+
+    /**
+     * Private helper method, hashing the index of a running AI together with its order.
+     * @param order order of the AI
+     * @param index index of the AI
+     * @return hash of the AI
+     */
+    private static long hashAI(int order, int index) {
+        return mix((long) order << INT_BITS | (index & 0xFFFFFFFFL));
+    }
+
+    /**
+     * Private helper method, hashing the command stored at a given index together with the index.
+     * @param index index of the cell
+     * @return hash of the cell
+     */
+    private long hashCell(int index) {
+        long hash = mix(index + GOLDEN_GAMMA * (memoryArena.getOpcode(index) + 1));
+        hash = mix(hash ^ memoryArena.getEntryA(index));
+        return mix(hash + ((long) memoryArena.getEntryB(index) << INT_BITS));
+    }
+
+    /**
+     * Mixes the bits of a given value with the finalizer of SplitMix64.
+     * @param value value to mix
+     * @return mixed value
+     */
+    static long mix(long value) {
+        long mixed = value + GOLDEN_GAMMA;
+        mixed = (mixed ^ (mixed >>> FIRST_SHIFT)) * FIRST_MULTIPLIER;
+        mixed = (mixed ^ (mixed >>> SECOND_SHIFT)) * SECOND_MULTIPLIER;
+        return mixed ^ (mixed >>> THIRD_SHIFT);
+    }
+}
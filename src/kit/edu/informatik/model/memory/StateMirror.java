@@ -0,0 +1,218 @@
+package kit.edu.informatik.model.memory;
+
+import kit.edu.informatik.model.AIObject;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The class mirrors the state of the games played on a {@link Memory} into a memory-mapped file,
+ * which can be read by other local processes without copying it through the standard output.
+ * All values are stored little-endian. The file starts with a header:
+ * <pre>
+ * offset  0  int   magic number 0x43464D31
+ * offset  4  int   version of the layout, 2
+ * offset  8  long  sequence, odd while a frame is written
+ * offset 16  long  amount of executed steps of the current game
+ * offset 24  int   amount of cells
+ * offset 28  int   amount of AI slots
+ * offset 32  int   amount of AIs of the current game, 0 if no game is running
+ * offset 36  int   order of the AI whose turn it is, -1 if there is none
+ * </pre>
+ * The header is followed by one slot of 64 bytes per AI, indexed by the order of the AI:
+ * its status as int (1 running, 2 stopped), its index as int, its counter as int, the length of its name as int
+ * and the first 48 bytes of its UTF-8 encoded name. The slots are followed by one entry of 12 bytes per cell:
+ * the opcode as byte, a reserved byte, the raw mark as short (owner + 1 in the upper fifteen bits, bomb flag
+ * in the lowest bit), the first entry as int and the second entry as int.
+ * <p>
+ * A frame is published with a sequence lock, so the simulation never waits for a reader: the sequence is made odd,
+ * the written cells and all AI slots are updated and the sequence is made even again. A reader reads the sequence,
+ * copies what it needs and accepts the copy if the sequence is still the same even value afterwards.
+ * Frames are published whenever the memory has executed a chunk of turns, which ends at the latest
+ * at the next snapshot of the game, so the mirror lags behind the game by at most one chunk.
+ * Implements interface {@link CellObserver} to collect the cells written since the last frame.
+ *
+ * @author uqtwh
+ * @version 1.0
+ */
+final class StateMirror implements CellObserver {
+    private static final VarHandle SEQUENCE = MethodHandles.byteBufferViewVarHandle(long[].class,
+            ByteOrder.LITTLE_ENDIAN);
+    private static final int MAGIC = 0x43464D31;
+    private static final int VERSION = 2;
+    private static final int SEQUENCE_OFFSET = 8;
+    private static final int STEP_OFFSET = 16;
+    private static final int AI_AMOUNT_OFFSET = 32;
+    private static final int TURN_OFFSET = 36;
+    private static final int HEADER_SIZE = 40;
+    private static final int SLOT_SIZE = 64;
+    private static final int NAME_OFFSET = 16;
+    private static final int RUNNING = 1;
+    private static final int STOPPED = 2;
+    private static final int CELL_SIZE = 12;
+    private static final int CHUNK_SHIFT = 24;
+    private static final int CHUNK_MASK = (1 << CHUNK_SHIFT) - 1;
+    private static final int FULL_FRAME_DIVISOR = 8;
+    private final MemoryArena memoryArena;
+    private final ByteBuffer header;
+    private final ByteBuffer[] cellChunks;
+    private final int slots;
+    private int[] writtenCells = new int[2];
+    private int writtenAmount;
+    private boolean allWritten = true;
+    private long sequence;
+
+    /**
+     * Private constructor of the class, use {@link #open(Path, MemoryArena, int)} instead.
+     * @param memoryArena the memory arena to mirror
+     * @param header      mapped header and AI slots
+     * @param cellChunks  mapped cell entries, in chunks of 2^24 cells
+     * @param slots       amount of AI slots
+     */
+    private StateMirror(MemoryArena memoryArena, ByteBuffer header, ByteBuffer[] cellChunks, int slots) {
+        this.memoryArena = memoryArena;
+        this.header = header;
+        this.cellChunks = cellChunks;
+        this.slots = slots;
+    }
+
+    /**
+     * Creates or truncates the mirror file, maps it and starts observing the arena for written cells.
+     * @param file        path of the mirror file
+     * @param memoryArena the memory arena to mirror
+     * @param slots       maximum amount of AIs of a game
+     * @return the mirror
+     * @throws IOException if the file cannot be created or mapped
+     */
+    static StateMirror open(Path file, MemoryArena memoryArena, int slots) throws IOException {
+        long cellsOffset = HEADER_SIZE + (long) slots * SLOT_SIZE;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, cellsOffset)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            ByteBuffer[] cellChunks = new ByteBuffer[(int) (((long) memoryArena.getSize() + CHUNK_MASK) >>> CHUNK_SHIFT)];
+            for (int i = 0; i < cellChunks.length; i++) {
+                long cells = Math.min(CHUNK_MASK + 1L, memoryArena.getSize() - ((long) i << CHUNK_SHIFT));
+                MappedByteBuffer chunk = channel.map(FileChannel.MapMode.READ_WRITE,
+                        cellsOffset + ((long) i << CHUNK_SHIFT) * CELL_SIZE, cells * CELL_SIZE);
+                cellChunks[i] = chunk.order(ByteOrder.LITTLE_ENDIAN);
+            }
+            header.putInt(0, MAGIC);
+            header.putInt(Integer.BYTES, VERSION);
+            header.putInt(STEP_OFFSET + Long.BYTES, memoryArena.getSize());
+            header.putInt(STEP_OFFSET + Long.BYTES + Integer.BYTES, slots);
+            header.putInt(TURN_OFFSET, -1);
+            StateMirror mirror = new StateMirror(memoryArena, header, cellChunks, slots);
+            memoryArena.addObserver(mirror);
+            return mirror;
+        }
+    }
+
+    /**
+     * Collects a written cell, which is mirrored with the next frame. If more than an eighth of the arena
+     * has been written since the last frame, the next frame mirrors the whole arena instead.
+     * @param index index of the written cell
+     */
+    @Override
+    public void cellWritten(int index) {
+        if (allWritten) {
+            return;
+        }
+        if (writtenAmount == writtenCells.length) {
+            if (writtenAmount > memoryArena.getSize() / FULL_FRAME_DIVISOR) {
+                allWritten = true;
+                return;
+            }
+            writtenCells = Arrays.copyOf(writtenCells, 2 * writtenCells.length);
+        }
+        writtenCells[writtenAmount++] = index;
+    }
+
+    /**
+     * Makes the next frame mirror the whole arena instead of collecting every cell.
+     * @param size {@inheritDoc}
+     */
+    @Override
+    public void allCellsWritten(int size) {
+        allWritten = true;
+    }
+
+    /**
+     * Makes the next frame mirror the whole arena and the names of the AIs, which is required when a game starts.
+     */
+    void invalidate() {
+        allWritten = true;
+    }
+
+    /**
+     * Publishes a frame of the current state of the game.
+     * @param step       amount of executed steps of the game
+     * @param gameAIs    the AIs of the game, running or stopped, or an empty list if no game is running
+     * @param currentAI  the AI whose turn it is or {@code null} if there is none
+     */
+    void publish(long step, List<AIObject> gameAIs, AIObject currentAI) {
+        SEQUENCE.setOpaque(header, SEQUENCE_OFFSET, ++sequence);
+        VarHandle.storeStoreFence();
+        boolean fullFrame = allWritten;
+        if (fullFrame) {
+            for (int i = 0; i < memoryArena.getSize(); i++) {
+                putCell(i);
+            }
+        } else {
+            for (int i = 0; i < writtenAmount; i++) {
+                putCell(writtenCells[i]);
+            }
+        }
+        writtenAmount = 0;
+        allWritten = false;
+        header.putLong(STEP_OFFSET, step);
+        header.putInt(AI_AMOUNT_OFFSET, Math.min(gameAIs.size(), slots));
+        header.putInt(TURN_OFFSET, currentAI == null ? -1 : currentAI.getOrder());
+        for (AIObject gameAI : gameAIs) {
+            if (gameAI.getOrder() < slots) {
+                putSlot(gameAI, fullFrame);
+            }
+        }
+        SEQUENCE.setRelease(header, SEQUENCE_OFFSET, ++sequence);
+    }
+
+    /**
+     * Private helper method for {@link #publish(long, List, AIObject)}, writing the entry of a cell.
+     * @param index index of the cell
+     */
+    private void putCell(int index) {
+        ByteBuffer chunk = cellChunks[index >>> CHUNK_SHIFT];
+        int offset = (index & CHUNK_MASK) * CELL_SIZE;
+        chunk.put(offset, (byte) memoryArena.getOpcode(index));
+        chunk.putShort(offset + Short.BYTES, memoryArena.loadMark(index));
+        chunk.putInt(offset + Integer.BYTES, memoryArena.getEntryA(index));
+        chunk.putInt(offset + 2 * Integer.BYTES, memoryArena.getEntryB(index));
+    }
+
+    /**
+     * Private helper method for {@link #publish(long, List, AIObject)}, writing the slot of an AI.
+     * @param gameAI    the AI to write the slot of
+     * @param writeName whether the name is written, which stays the same during a game
+     */
+    private void putSlot(AIObject gameAI, boolean writeName) {
+        int offset = HEADER_SIZE + gameAI.getOrder() * SLOT_SIZE;
+        header.putInt(offset, gameAI.getRunning() ? RUNNING : STOPPED);
+        header.putInt(offset + Integer.BYTES, gameAI.getIndex());
+        header.putInt(offset + 2 * Integer.BYTES, gameAI.getCounter());
+        if (writeName) {
+            byte[] name = gameAI.getName().getBytes(StandardCharsets.UTF_8);
+            header.putInt(offset + 3 * Integer.BYTES, name.length);
+            header.put(offset + NAME_OFFSET, name, 0, Math.min(name.length, SLOT_SIZE - NAME_OFFSET));
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package kit.edu.informatik.model.memory;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The class models the Flight Recorder event of a batch of steps executed at once, as by {@link Memory#next(int)}.
+ * Single steps are never recorded as events, keeping the Flight Recorder out of the loop over the steps.
+ *
+ * @author uqtwh
+ * @version 1.0
+ */
+@Name("codefight.StepBatch")
+@Label("Step Batch")
+@Category({"CodeFight", "Game"})
+@Description("A batch of steps has been executed")
+@StackTrace(false)
+final class StepBatchEvent extends Event {
+    @Label("Steps")
+    private int steps;
+    @Label("Stopped AIs")
+    private int stoppedAIs;
+    @Label("Game Steps")
+    @Description("Amount of steps executed in the game after the batch")
+    private long gameSteps;
+
+    /**
+     * Commits the event with the given values, if it is enabled.
+     * @param steps      amount of steps executed in the batch
+     * @param stoppedAIs amount of AIs stopped in the batch
+     * @param gameSteps  amount of steps executed in the game after the batch
+     */
+    void record(int steps, int stoppedAIs, long gameSteps) {
+        if (shouldCommit()) {
+            this.steps = steps;
+            this.stoppedAIs = stoppedAIs;
+            this.gameSteps = gameSteps;
+            commit();
+        }
+    }
+}
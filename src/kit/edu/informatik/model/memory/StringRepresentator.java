@@ -3,79 +3,141 @@ package kit.edu.informatik.model.memory;
 import kit.edu.informatik.model.aicommands.AICommand;
 import kit.edu.informatik.model.AIObject;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.StringJoiner;
 
 /**
  * The class enables a representation of the {@link Memory} as a String.
+ * The symbols of the cells are cached between representations and only resolved again for the cells
+ * which have been written since the last representation, as reported by the {@link MemoryArena}.
+ * The cache takes memory for every cell, so it is only kept if enabled and for memory sizes up to
+ * {@link #CACHE_UPPER_BOUND}; otherwise the symbols are resolved with every representation.
+ * The memory is only represented as a whole for memory sizes up to {@link #WHOLE_VIEW_UPPER_BOUND},
+ * above which a representation only lists the cells from a given index.
+ * Implements interface {@link CellObserver}.
  * 
  * @author uqtwh
  * @version 1.0
  */
-public final class StringRepresentator {
+public final class StringRepresentator implements CellObserver {
     private static final String COMMAND_OUTPUT_PATTERN = "%s %s: %s | %s | %s";
     private static final String[] PAD_COMMAND_PATTERN = {"%", "s"};
-    private static final int SHOW_MEMORY_RANGE = 10;
+    static final int SHOW_MEMORY_RANGE = 10;
+    static final int WHOLE_VIEW_UPPER_BOUND = 1 << 24;
+    private static final int CACHE_UPPER_BOUND = 1 << 20;
     private static final int MEMORY_INDEX = 0;
     private static final int COMMAND_ENTRY_A_INDEX = 1;
     private static final int COMMAND_ENTRY_B_INDEX = 2;
     private static final int COMMAND_TYPE_INDEX = 3;
+    private static final int MEMORY_SYMBOL_INDEX = 0;
     private static final int AREA_DISPLAY_INDEX = 1;
     private static final int CURRENT_AI_COMMAND_INDEX = 2;
     private static final int NEXT_AI_COMMAND_INDEX = 3;
-    private final MemoryCell[] memoryCells;
-    private final List<AIObject> runningAIs;
+    private static final int NO_AREA = -1;
+    private final MemoryArena memoryArena;
     private final String[] symbols;
+    private final AISymbols aiSymbols;
+    private final boolean cacheSymbols;
+    private String[] cellSymbols;
+    private boolean[] dirty;
+    private int[] dirtyIndices;
+    private int dirtyAmount;
+    private int[] aiPositions = new int[0];
     private int currentIndex;
 
     /**
-     * Constructor for the class.
-     * @param memoryCells the memory cells
-     * @param runngingAIs the running AIs
-     * @param symbols     the symbols
+     * Constructor for the class, observing the given arena for written cells if the symbols are cached.
+     * The symbol cache is only allocated with the first representation.
+     * @param memoryArena  the memory arena
+     * @param symbols      the symbols
+     * @param aiSymbols    the symbols of the AIs
+     * @param cacheSymbols whether the symbols of the cells may be cached, which is limited by {@link #CACHE_UPPER_BOUND}
      */
-    public StringRepresentator(MemoryCell[] memoryCells, List<AIObject> runngingAIs, String[] symbols) {
-        this.memoryCells = memoryCells.clone();
-        this.runningAIs = new ArrayList<>(runngingAIs);
+    StringRepresentator(MemoryArena memoryArena, String[] symbols, AISymbols aiSymbols, boolean cacheSymbols) {
+        this.memoryArena = memoryArena;
         this.symbols = symbols.clone();
+        this.aiSymbols = aiSymbols;
+        this.cacheSymbols = cacheSymbols && memoryArena.getSize() <= CACHE_UPPER_BOUND;
+        if (this.cacheSymbols) {
+            memoryArena.addObserver(this);
+        }
+    }
+
+    /**
+     * Marks a written cell as dirty, so that its symbol is resolved again with the next representation.
+     * @param index index of the written cell
+     */
+    @Override
+    public void cellWritten(int index) {
+        if (cellSymbols != null && !dirty[index]) {
+            dirty[index] = true;
+            dirtyIndices[dirtyAmount++] = index;
+        }
+    }
+
+    /**
+     * Discards all resolved symbols, which are resolved again lazily with the next representation.
+     * @param size {@inheritDoc}
+     */
+    @Override
+    public void allCellsWritten(int size) {
+        cellSymbols = null;
+        dirtyAmount = 0;
+    }
+
+    /**
+     * Returns whether the memory is small enough to be represented as a whole, which is limited by {@link #WHOLE_VIEW_UPPER_BOUND}.
+     * @return {@code true} if the memory can be represented as a whole, otherwise {@code false}
+     */
+    boolean canRepresentWhole() {
+        return memoryArena.getSize() <= WHOLE_VIEW_UPPER_BOUND;
     }
 
     /**
      * The method returns a String representation of the memory.
-     * @param index        given index
+     * If the memory cannot be {@link #canRepresentWhole() represented as a whole}, only the cells from the index are listed.
+     * @param index        given index, which must not be -1 if the memory cannot be represented as a whole
      * @param currentIndex current index of the game
+     * @param runningAIs   the running AIs
      * @return String representation of the memory
      */
-    public String represent(int index, int currentIndex) {
+    public String represent(int index, int currentIndex, List<AIObject> runningAIs) {
         this.currentIndex = currentIndex;
-        List<String> memorySymbols = new ArrayList<>();
-        for (int i = 0; i < memoryCells.length; i++) {
-            memorySymbols.add(getCorrectSymbol(i));
-        }
-        if (index == -1) {
-            return buildString(memorySymbols);
+        updateCellSymbols();
+        // The positions are sorted, so that building the whole memory can walk through them
+        int[] positions = new int[runningAIs.size()];
+        int positionAmount = 0;
+        for (AIObject currentAI : runningAIs) {
+            if (currentAI.getRunning()) {
+                positions[positionAmount++] = currentAI.getIndex();
+            }
         }
-        // Calculating the upper index for the memory view
-        int upperIndex = index + SHOW_MEMORY_RANGE;
-        if (index + SHOW_MEMORY_RANGE > memoryCells.length) {
-            upperIndex = Math.min(index + SHOW_MEMORY_RANGE - memoryCells.length, index);
-            upperIndex = upperIndex == 0 ? memoryCells.length : upperIndex;
+        Arrays.sort(positions, 0, positionAmount);
+        aiPositions = Arrays.copyOf(positions, positionAmount);
+        try {
+            if (index == -1) {
+                return buildString(NO_AREA, NO_AREA);
+            }
+            // Calculating the upper index for the memory view
+            int upperIndex = index + SHOW_MEMORY_RANGE;
+            if (index + SHOW_MEMORY_RANGE > memoryArena.getSize()) {
+                upperIndex = Math.min(index + SHOW_MEMORY_RANGE - memoryArena.getSize(), index);
+                upperIndex = upperIndex == 0 ? memoryArena.getSize() : upperIndex;
+            }
+            if (!canRepresentWhole()) {
+                return extendedView(index, upperIndex == memoryArena.getSize() ? 0 : upperIndex);
+            }
+            // Inserting the display symbols
+            return buildString(Math.min(index, upperIndex), Math.max(index, upperIndex)) + System.lineSeparator()
+                    + extendedView(index, upperIndex == memoryArena.getSize() ? 0 : upperIndex);
+        } finally {
+            aiPositions = new int[0];
         }
-        // Inserting the display symbols
-        List<String> firstPart = new ArrayList<>(memorySymbols.subList(0, Math.min(index, upperIndex)));
-        List<String> secondPart = new ArrayList<>(memorySymbols.subList(Math.min(index, upperIndex), Math.max(index, upperIndex)));
-        List<String> thirdPart = new ArrayList<>(memorySymbols.subList(Math.max(index, upperIndex), memoryCells.length));
-
-        firstPart.add(symbols[AREA_DISPLAY_INDEX]);
-        secondPart.add(symbols[AREA_DISPLAY_INDEX]);
-        secondPart.addAll(thirdPart);
-        firstPart.addAll(secondPart);
-        return buildString(firstPart) + System.lineSeparator() + extendedView(index, upperIndex == memoryCells.length ? 0 : upperIndex);
     }
 
     /**
-     * Private helper method for {@link #represent(int, int)}, extending the view of the memory.
+     * Private helper method for {@link #represent(int, int, List)}, extending the view of the memory.
      * @param lowerIndex lower index
      * @param upperIndex upper index
      * @return extended view of the memory
@@ -83,41 +145,75 @@ public final class StringRepresentator {
     private String extendedView(int lowerIndex, int upperIndex) {
         boolean overflow = false;
         StringJoiner stringJoiner = new StringJoiner(System.lineSeparator());
+        int[] lengths = getLongestLength(lowerIndex, lowerIndex + SHOW_MEMORY_RANGE);
         for (int i = lowerIndex; i < lowerIndex + SHOW_MEMORY_RANGE; i++) {
-            overflow = overflow || i > memoryCells.length - 1;
-            int targetIndex = i > memoryCells.length - 1 ? i - memoryCells.length : i;
+            overflow = overflow || i > memoryArena.getSize() - 1;
+            int targetIndex = i > memoryArena.getSize() - 1 ? i - memoryArena.getSize() : i;
             if (!overflow || targetIndex < upperIndex) {
-                int[] lengths = getLongestLength(lowerIndex, lowerIndex + SHOW_MEMORY_RANGE);
-                AICommand command = memoryCells[targetIndex].getAICommand();
-                stringJoiner.add(COMMAND_OUTPUT_PATTERN.formatted(getCorrectSymbol(targetIndex),
+                stringJoiner.add(COMMAND_OUTPUT_PATTERN.formatted(
+                        getCorrectSymbol(targetIndex, Arrays.binarySearch(aiPositions, targetIndex) >= 0),
                         padString(targetIndex, lengths[MEMORY_INDEX]),
-                        padString(command.getCommandType(), lengths[COMMAND_TYPE_INDEX]),
-                        padString(command.getEntryA(), lengths[COMMAND_ENTRY_A_INDEX]),
-                        padString(String.valueOf(command.getEntryB()), lengths[COMMAND_ENTRY_B_INDEX])));
+                        padString(memoryArena.getCommandType(targetIndex), lengths[COMMAND_TYPE_INDEX]),
+                        padString(memoryArena.getEntryA(targetIndex), lengths[COMMAND_ENTRY_A_INDEX]),
+                        padString(String.valueOf(memoryArena.getEntryB(targetIndex)), lengths[COMMAND_ENTRY_B_INDEX])));
             }
         }
         return stringJoiner.toString();
     }
 
     /**
-     * Private helper method for {@link #represent(int, int)}, getting the correct symbol for a given index,
+     * Private helper method for {@link #represent(int, int, List)}, getting the correct symbol for a given index,
      * meaning either the symbols in the memory, or if a running AI is currently at the index, one of the corresponding symbols.
-     * @param index index of the command
+     * @param index      index of the command
+     * @param aiPosition whether a running AI is at the index
      * @return correct symbol
      */
-    private String getCorrectSymbol(int index) {
+    private String getCorrectSymbol(int index, boolean aiPosition) {
         if (index == currentIndex) {
             return symbols[CURRENT_AI_COMMAND_INDEX];
         }
-        for (AIObject currentAI : runningAIs) {
-            if (currentAI.getIndex() == index && currentAI.getRunning()) {
-                return symbols[NEXT_AI_COMMAND_INDEX];
+        if (aiPosition) {
+            return symbols[NEXT_AI_COMMAND_INDEX];
+        }
+        return cellSymbols == null ? resolveSymbol(index) : cellSymbols[index];
+    }
+    /**
+     * Private helper method for {@link #represent(int, int, List)}, resolving the symbols of the cells
+     * written since the last representation, or of all cells with the first representation, if the symbols are cached.
+     */
+    private void updateCellSymbols() {
+        if (!cacheSymbols) {
+            return;
+        }
+        if (cellSymbols == null) {
+            cellSymbols = new String[memoryArena.getSize()];
+            dirty = new boolean[memoryArena.getSize()];
+            dirtyIndices = new int[memoryArena.getSize()];
+            for (int i = 0; i < cellSymbols.length; i++) {
+                cellSymbols[i] = resolveSymbol(i);
             }
+            return;
         }
-        return memoryCells[index].getSymbol();
+        for (int i = 0; i < dirtyAmount; i++) {
+            cellSymbols[dirtyIndices[i]] = resolveSymbol(dirtyIndices[i]);
+            dirty[dirtyIndices[i]] = false;
+        }
+        dirtyAmount = 0;
+    }
+    /**
+     * Private helper method for {@link #updateCellSymbols()}, resolving the owner and bomb mark of a cell to its symbol.
+     * @param index index of the cell
+     * @return symbol of the cell
+     */
+    private String resolveSymbol(int index) {
+        int owner = memoryArena.getOwner(index);
+        if (owner < 0) {
+            return symbols[MEMORY_SYMBOL_INDEX];
+        }
+        return memoryArena.isBomb(index) ? aiSymbols.getBombSymbol(owner) : aiSymbols.getSymbol(owner);
     }
     /**
-     * Private helper method for {@link #represent(int, int)}, return an Array of the lengths of
+     * Private helper method for {@link #represent(int, int, List)}, return an Array of the lengths of
      * the longest elements of the entries of the {@link AICommand}s.
      * @param lowerBound lower bound of the range
      * @param upperBound upper bound of the range
@@ -126,17 +222,17 @@ public final class StringRepresentator {
     private int[] getLongestLength(int lowerBound, int upperBound) {
         int[] result = {-1, -1, -1, -1};
         for (int i = lowerBound; i < upperBound; i++) {
-            int index = i % memoryCells.length;
-            AICommand aiCommand = memoryCells[index].getAICommand();
+            int index = i % memoryArena.getSize();
             result[MEMORY_INDEX] = Math.max(result[MEMORY_INDEX], String.valueOf(index).length());
-            result[COMMAND_ENTRY_A_INDEX] = Math.max(result[COMMAND_ENTRY_A_INDEX], String.valueOf(aiCommand.getEntryA()).length());
-            result[COMMAND_ENTRY_B_INDEX] = Math.max(result[COMMAND_ENTRY_B_INDEX], String.valueOf(aiCommand.getEntryB()).length());
-            result[COMMAND_TYPE_INDEX] = Math.max(result[COMMAND_TYPE_INDEX], String.valueOf(aiCommand.getCommandType()).length());
+            result[COMMAND_ENTRY_A_INDEX] = Math.max(result[COMMAND_ENTRY_A_INDEX], String.valueOf(memoryArena.getEntryA(index)).length());
+            result[COMMAND_ENTRY_B_INDEX] = Math.max(result[COMMAND_ENTRY_B_INDEX], String.valueOf(memoryArena.getEntryB(index)).length());
+            result[COMMAND_TYPE_INDEX] = Math.max(result[COMMAND_TYPE_INDEX],
+                    String.valueOf(memoryArena.getCommandType(index)).length());
         }
         return result;
     }
     /**
-     * Private helper method for {@link #represent(int, int)}, padding a string with a given amount of spaces.
+     * Private helper method for {@link #represent(int, int, List)}, padding a string with a given amount of spaces.
      * @param word     String to pad
      * @param padSize  amount of spaces to pad with
      * @return padded String
@@ -146,14 +242,28 @@ public final class StringRepresentator {
     }
 
     /**
-     * Private helper method for {@link #represent(int, int)}, building a String from a given List of Strings.
-     * @param stringList List of Strings
+     * Private helper method for {@link #represent(int, int, List)}, building a String from the symbols of all cells,
+     * inserting the display symbol in front of the cells at two given indices.
+     * @param lowerArea index of the first display symbol or -1 if none is inserted
+     * @param upperArea index of the second display symbol or -1 if none is inserted
      * @return built String
      */
-    private String buildString(List<String> stringList) {
-        StringBuilder stringBuilder = new StringBuilder();
-        for (String symbol : stringList) {
-            stringBuilder.append(symbol);
+    private String buildString(int lowerArea, int upperArea) {
+        StringBuilder stringBuilder = new StringBuilder(memoryArena.getSize());
+        int position = 0;
+        for (int i = 0; i <= memoryArena.getSize(); i++) {
+            if (i == lowerArea) {
+                stringBuilder.append(symbols[AREA_DISPLAY_INDEX]);
+            }
+            if (i == upperArea) {
+                stringBuilder.append(symbols[AREA_DISPLAY_INDEX]);
+            }
+            if (i < memoryArena.getSize()) {
+                while (position < aiPositions.length && aiPositions[position] < i) {
+                    position++;
+                }
+                stringBuilder.append(getCorrectSymbol(i, position < aiPositions.length && aiPositions[position] == i));
+            }
         }
         return stringBuilder.toString();
     }
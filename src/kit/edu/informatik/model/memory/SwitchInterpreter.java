@@ -0,0 +1,195 @@
+package kit.edu.informatik.model.memory;
+
+import kit.edu.informatik.model.AIObject;
+import kit.edu.informatik.model.aicommands.AICommand;
+
+/**
+ * The class executes the commands of the {@link MemoryArena} by switching over their opcodes,
+ * instead of dispatching to the {@link AICommand} objects.
+ * The results are identical to the execution of the corresponding {@link AICommand}.
+ * Implements interface {@link Interpreter}.
+ *
+ * @author uqtwh
+ * @version 1.0
+ */
+final class SwitchInterpreter implements Interpreter {
+    // The opcodes are the ordinals of the AICommandTypes, as case labels have to be constant
+    private static final int STOP = 0;
+    private static final int MOV_R = 1;
+    private static final int MOV_I = 2;
+    private static final int ADD = 3;
+    private static final int ADD_R = 4;
+    private static final int JMP = 5;
+    private static final int JMZ = 6;
+    private static final int CMP = 7;
+    private static final int SWAP = 8;
+    private final MemoryArena memoryArena;
+
+    /**
+     * Constructor of the class.
+     * @param memoryArena the memory arena to execute the commands of
+     */
+    SwitchInterpreter(MemoryArena memoryArena) {
+        this.memoryArena = memoryArena;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param currentAI {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean executeTurn(AIObject currentAI) {
+        execute(currentAI, memoryArena);
+        return Interpreter.completeTurn(currentAI, memoryArena.getSize());
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param turnRing {@inheritDoc}
+     * @param steps    {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public int executeTurns(TurnRing turnRing, int steps) {
+        for (int executed = 1; executed <= steps; executed++) {
+            AIObject currentAI = turnRing.getCurrent();
+            execute(currentAI, memoryArena);
+            if (Interpreter.completeTurn(currentAI, memoryArena.getSize())) {
+                return executed;
+            }
+            turnRing.advance();
+        }
+        return steps;
+    }
+
+    /**
+     * Executes the command at the index of the given AI.
+     * Each command is executed by its own small method, so that the switch is small enough to be inlined
+     * into the loop of {@link #executeTurns(TurnRing, int)}.
+     * @param currentAI   the AI to execute the command for
+     * @param memoryArena the memory arena to execute the command on
+     */
+    static void execute(AIObject currentAI, MemoryArena memoryArena) {
+        int currentIndex = currentAI.getIndex();
+        switch (memoryArena.getOpcode(currentIndex)) {
+            case STOP -> currentAI.setRunning(false);
+            case MOV_R -> moveRelative(currentAI, currentIndex, memoryArena);
+            case MOV_I -> moveIndirect(currentAI, currentIndex, memoryArena);
+            case ADD -> add(currentAI, currentIndex, memoryArena);
+            case ADD_R -> addRelative(currentAI, currentIndex, memoryArena);
+            case JMP -> currentAI.setIndex(cyclicalIndex(currentIndex, memoryArena.getEntryA(currentIndex) - 1,
+                    memoryArena.getSize()));
+            case JMZ -> jumpIfZero(currentAI, currentIndex, memoryArena);
+            case CMP -> compare(currentAI, currentIndex, memoryArena);
+            case SWAP -> swap(currentAI, currentIndex, memoryArena);
+            default -> throw new IllegalStateException();
+        }
+    }
+
+    /**
+     * Private helper method for {@link #execute(AIObject, MemoryArena)}, executing a MOV_R command.
+     * @param currentAI    the AI to execute the command for
+     * @param currentIndex index of the command
+     * @param memoryArena  the memory arena to execute the command on
+     */
+    private static void moveRelative(AIObject currentAI, int currentIndex, MemoryArena memoryArena) {
+        int size = memoryArena.getSize();
+        int targetIndex = cyclicalIndex(currentIndex, memoryArena.getEntryB(currentIndex), size);
+        memoryArena.copyCommand(cyclicalIndex(currentIndex, memoryArena.getEntryA(currentIndex), size), targetIndex);
+        memoryArena.claim(targetIndex, currentAI.getOrder());
+    }
+
+    /**
+     * Private helper method for {@link #execute(AIObject, MemoryArena)}, executing a MOV_I command.
+     * @param currentAI    the AI to execute the command for
+     * @param currentIndex index of the command
+     * @param memoryArena  the memory arena to execute the command on
+     */
+    private static void moveIndirect(AIObject currentAI, int currentIndex, MemoryArena memoryArena) {
+        int size = memoryArena.getSize();
+        int intermediateIndex = cyclicalIndex(currentIndex, memoryArena.getEntryB(currentIndex), size);
+        int targetIndex = cyclicalIndex(intermediateIndex, memoryArena.getEntryB(intermediateIndex), size);
+        memoryArena.copyCommand(cyclicalIndex(currentIndex, memoryArena.getEntryA(currentIndex), size), targetIndex);
+        memoryArena.claim(targetIndex, currentAI.getOrder());
+    }
+
+    /**
+     * Private helper method for {@link #execute(AIObject, MemoryArena)}, executing an ADD command.
+     * @param currentAI    the AI to execute the command for
+     * @param currentIndex index of the command
+     * @param memoryArena  the memory arena to execute the command on
+     */
+    private static void add(AIObject currentAI, int currentIndex, MemoryArena memoryArena) {
+        memoryArena.setEntryB(currentIndex, memoryArena.getEntryA(currentIndex) + memoryArena.getEntryB(currentIndex));
+        memoryArena.claim(currentIndex, currentAI.getOrder());
+    }
+
+    /**
+     * Private helper method for {@link #execute(AIObject, MemoryArena)}, executing an ADD_R command.
+     * @param currentAI    the AI to execute the command for
+     * @param currentIndex index of the command
+     * @param memoryArena  the memory arena to execute the command on
+     */
+    private static void addRelative(AIObject currentAI, int currentIndex, MemoryArena memoryArena) {
+        int targetIndex = cyclicalIndex(currentIndex, memoryArena.getEntryB(currentIndex), memoryArena.getSize());
+        memoryArena.setEntryB(targetIndex, memoryArena.getEntryA(currentIndex) + memoryArena.getEntryB(targetIndex));
+        memoryArena.claim(targetIndex, currentAI.getOrder());
+    }
+
+    /**
+     * Private helper method for {@link #execute(AIObject, MemoryArena)}, executing a JMZ command.
+     * @param currentAI    the AI to execute the command for
+     * @param currentIndex index of the command
+     * @param memoryArena  the memory arena to execute the command on
+     */
+    private static void jumpIfZero(AIObject currentAI, int currentIndex, MemoryArena memoryArena) {
+        int size = memoryArena.getSize();
+        if (memoryArena.getEntryB(cyclicalIndex(currentIndex, memoryArena.getEntryB(currentIndex), size)) == 0) {
+            currentAI.setIndex(cyclicalIndex(currentIndex, memoryArena.getEntryA(currentIndex) - 1, size));
+        }
+    }
+
+    /**
+     * Private helper method for {@link #execute(AIObject, MemoryArena)}, executing a CMP command.
+     * @param currentAI    the AI to execute the command for
+     * @param currentIndex index of the command
+     * @param memoryArena  the memory arena to execute the command on
+     */
+    private static void compare(AIObject currentAI, int currentIndex, MemoryArena memoryArena) {
+        int size = memoryArena.getSize();
+        if (memoryArena.getEntryA(cyclicalIndex(currentIndex, memoryArena.getEntryA(currentIndex), size))
+                != memoryArena.getEntryB(cyclicalIndex(currentIndex, memoryArena.getEntryB(currentIndex), size))) {
+            currentAI.setIndex(cyclicalIndex(currentIndex, 1, size));
+        }
+    }
+
+    /**
+     * Private helper method for {@link #execute(AIObject, MemoryArena)}, executing a SWAP command.
+     * @param currentAI    the AI to execute the command for
+     * @param currentIndex index of the command
+     * @param memoryArena  the memory arena to execute the command on
+     */
+    private static void swap(AIObject currentAI, int currentIndex, MemoryArena memoryArena) {
+        int size = memoryArena.getSize();
+        int sourceIndex = cyclicalIndex(currentIndex, memoryArena.getEntryA(currentIndex), size);
+        int targetIndex = cyclicalIndex(currentIndex, memoryArena.getEntryB(currentIndex), size);
+        int swap = memoryArena.getEntryA(sourceIndex);
+        memoryArena.setEntryA(sourceIndex, memoryArena.getEntryB(targetIndex));
+        memoryArena.setEntryB(targetIndex, swap);
+        memoryArena.claim(sourceIndex, currentAI.getOrder());
+        memoryArena.claim(targetIndex, currentAI.getOrder());
+    }
+
+    /**
+     * Private helper method for {@link #execute(AIObject, MemoryArena)}, calculating the cyclical index of a given index.
+     * @param index      index to calculate the cyclical index for
+     * @param moveBy     value to move the index by
+     * @param memorySize size of the memory
+     * @return cyclical index
+     */
+    private static int cyclicalIndex(int index, int moveBy, int memorySize) {
+        int targetIndex = (index + moveBy) % memorySize;
+        return targetIndex < 0 ? memorySize + targetIndex : targetIndex;
+    }
+}
@@ -0,0 +1,151 @@
+package kit.edu.informatik.model.memory;
+
+import kit.edu.informatik.model.AIObject;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The class schedules the turns of the running AIs of a game as an intrusive ring of slots, one per order of an AI,
+ * linked to the slots of the previous and the next running AI. Passing the turn to the next AI and removing
+ * a stopped AI, whose turn passes to the next AI, take constant time regardless of the amount of AIs.
+ * The index of the current AI among the running AIs is kept up to date in constant time as well,
+ * and the list of the running AIs in the order of their turns is only built when it is requested after a removal.
+ *
+ * @author uqtwh
+ * @version 1.0
+ */
+final class TurnRing {
+    private static final int NONE = -1;
+    private final List<AIObject> runningAIs = new ArrayList<>();
+    private final List<AIObject> runningView = Collections.unmodifiableList(runningAIs);
+    private AIObject[] slots = new AIObject[0];
+    private int[] next = new int[0];
+    private int[] previous = new int[0];
+    private int first = NONE;
+    private int current = NONE;
+    private int size;
+    private int turn;
+    private boolean listOutdated;
+
+    /**
+     * Replaces the running AIs of the ring.
+     * @param aiList the running AIs, in the order of their turns
+     * @param turn   index of the running AI whose turn it is
+     */
+    void reset(List<AIObject> aiList, int turn) {
+        int capacity = 0;
+        for (AIObject currentAI : aiList) {
+            capacity = Math.max(capacity, currentAI.getOrder() + 1);
+        }
+        if (slots.length < capacity) {
+            slots = new AIObject[capacity];
+            next = new int[capacity];
+            previous = new int[capacity];
+        }
+        Arrays.fill(slots, null);
+        size = aiList.size();
+        first = size == 0 ? NONE : aiList.get(0).getOrder();
+        current = size == 0 ? NONE : aiList.get(turn).getOrder();
+        this.turn = size == 0 ? 0 : turn;
+        for (int i = 0; i < size; i++) {
+            int slot = aiList.get(i).getOrder();
+            slots[slot] = aiList.get(i);
+            next[slot] = aiList.get((i + 1) % size).getOrder();
+            previous[slot] = aiList.get((i + size - 1) % size).getOrder();
+        }
+        runningAIs.clear();
+        runningAIs.addAll(aiList);
+        listOutdated = false;
+    }
+
+    /**
+     * Removes all AIs from the ring.
+     */
+    void clear() {
+        reset(List.of(), 0);
+    }
+
+    /**
+     * Returns the AI whose turn it is.
+     * @return the current AI or {@code null} if no AI is running
+     */
+    AIObject getCurrent() {
+        return current == NONE ? null : slots[current];
+    }
+
+    /**
+     * Returns the index of the AI whose turn it is among the running AIs, in the order of their turns.
+     * @return index of the current AI, 0 if no AI is running
+     */
+    int getTurn() {
+        return turn;
+    }
+
+    /**
+     * Returns the amount of running AIs.
+     * @return amount of running AIs
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether no AI is running.
+     * @return {@code true} if no AI is running, otherwise {@code false}
+     */
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Passes the turn to the next running AI, starting again with the first AI after the last one.
+     */
+    void advance() {
+        current = next[current];
+        turn = current == first ? 0 : turn + 1;
+    }
+
+    /**
+     * Removes the AI whose turn it is from the ring and passes the turn to the next running AI,
+     * which moves up to the index of the removed AI among the running AIs.
+     */
+    void removeCurrent() {
+        int removed = current;
+        slots[removed] = null;
+        size--;
+        listOutdated = true;
+        if (size == 0) {
+            first = NONE;
+            current = NONE;
+            turn = 0;
+            return;
+        }
+        next[previous[removed]] = next[removed];
+        previous[next[removed]] = previous[removed];
+        if (removed == first) {
+            first = next[removed];
+        }
+        current = next[removed];
+        if (current == first) {
+            turn = 0;
+        }
+    }
+
+    /**
+     * Returns the running AIs in the order of their turns, starting with the first AI.
+     * @return unmodifiable list of the running AIs
+     */
+    List<AIObject> asList() {
+        if (listOutdated) {
+            runningAIs.clear();
+            for (int i = 0, slot = first; i < size; i++, slot = next[slot]) {
+                runningAIs.add(slots[slot]);
+            }
+            listOutdated = false;
+        }
+        return runningView;
+    }
+}
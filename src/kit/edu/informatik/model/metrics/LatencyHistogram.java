@@ -0,0 +1,76 @@
+package kit.edu.informatik.model.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The class records latencies in buckets of powers of two nanoseconds, so that recording a latency
+ * costs a single increment and quantiles are estimated within a factor of two.
+ * Latencies can be recorded by multiple threads at once.
+ *
+ * @author uqtwh
+ * @version 1.0
+ */
+final class LatencyHistogram {
+    private static final int BUCKETS = Long.SIZE;
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records a latency.
+     * @param nanos the latency in nanoseconds
+     */
+    void record(long nanos) {
+        long latency = Math.max(nanos, 0);
+        buckets.incrementAndGet(BUCKETS - 1 - Long.numberOfLeadingZeros(latency | 1));
+        count.increment();
+        totalNanos.add(latency);
+        maxNanos.accumulate(latency);
+    }
+
+    /**
+     * Returns the amount of recorded latencies.
+     * @return amount of recorded latencies
+     */
+    long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Returns the mean of the recorded latencies.
+     * @return mean latency in nanoseconds, 0 if no latency has been recorded
+     */
+    long getMeanNanos() {
+        long recorded = count.sum();
+        return recorded == 0 ? 0 : totalNanos.sum() / recorded;
+    }
+
+    /**
+     * Returns the maximum of the recorded latencies.
+     * @return maximum latency in nanoseconds
+     */
+    long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    /**
+     * Estimates a quantile of the recorded latencies as the upper bound of the bucket containing it,
+     * but at most the maximum latency.
+     * @param quantile the quantile, between 0 and 1
+     * @return estimated quantile in nanoseconds, 0 if no latency has been recorded
+     */
+    long getQuantileNanos(double quantile) {
+        long rank = (long) Math.ceil(quantile * count.sum());
+        long counted = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counted += buckets.get(i);
+            if (counted >= rank && counted > 0) {
+                return i >= BUCKETS - 2 ? getMaxNanos() : Math.min((2L << i) - 1, getMaxNanos());
+            }
+        }
+        return 0;
+    }
+}
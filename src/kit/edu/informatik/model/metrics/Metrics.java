@@ -0,0 +1,104 @@
+package kit.edu.informatik.model.metrics;
+
+import kit.edu.informatik.model.AICommandTypes;
+
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The class collects the metrics of the engine and the command line interface: the executed steps per
+ * {@link AICommandTypes}, the time spent executing them, the amount of stopped AIs and the latencies of the commands.
+ * The metrics are shared by a memory and all memories isolated from it, so the games of tournaments and seed sweeps
+ * are included, and can be recorded by multiple threads at once.
+ * Memories count their steps locally and add them here after every chunk of steps, keeping the counters out of
+ * the loop over the steps. The report lists one metric per line as its name, optional labels and its value.
+ * The steps per engine second divide the steps by the time spent executing them, summed over all threads,
+ * so they are the rate of a single engine thread; parallel games complete more steps per wall-clock second.
+ *
+ * @author uqtwh
+ * @version 1.0
+ */
+public final class Metrics {
+    private static final AICommandTypes[] COMMAND_TYPES = AICommandTypes.values();
+    private static final double NANOS_PER_SECOND = 1e9;
+    private static final double MEDIAN = 0.5;
+    private static final double TAIL = 0.99;
+    private static final String STEPS = "steps %d";
+    private static final String STEPS_PER_ENGINE_SECOND = "steps_per_engine_second %.0f";
+    private static final String STOPPED_AIS = "stopped_ais %d";
+    private static final String OPCODE_STEPS = "opcode_steps{opcode=\"%s\"} %d";
+    private static final String COMMAND_COUNT = "command_count{command=\"%s\"} %d";
+    private static final String COMMAND_LATENCY = "command_latency_nanos{command=\"%s\",statistic=\"%s\"} %d";
+    private static final String MEAN = "mean";
+    private static final String P50 = "p50";
+    private static final String P99 = "p99";
+    private static final String MAX = "max";
+    private final LongAdder[] opcodeSteps = new LongAdder[COMMAND_TYPES.length];
+    private final LongAdder engineNanos = new LongAdder();
+    private final LongAdder stoppedAIs = new LongAdder();
+    private final Map<String, LatencyHistogram> commandLatencies = new ConcurrentSkipListMap<>();
+
+    /**
+     * Constructor of the class, with all metrics at 0.
+     */
+    public Metrics() {
+        for (int i = 0; i < opcodeSteps.length; i++) {
+            opcodeSteps[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Adds the steps of a chunk and the time spent executing them.
+     * @param opcodeCounts amount of executed steps, indexed by the ordinal of the {@link AICommandTypes} of the command
+     * @param nanos        time spent executing the steps in nanoseconds
+     * @param stopped      amount of AIs stopped by the steps
+     */
+    public void recordSteps(long[] opcodeCounts, long nanos, int stopped) {
+        for (int i = 0; i < opcodeCounts.length; i++) {
+            if (opcodeCounts[i] != 0) {
+                opcodeSteps[i].add(opcodeCounts[i]);
+            }
+        }
+        engineNanos.add(nanos);
+        stoppedAIs.add(stopped);
+    }
+
+    /**
+     * Adds the latency of a handled command.
+     * @param commandName name of the command
+     * @param nanos       latency of the command in nanoseconds
+     */
+    public void recordCommand(String commandName, long nanos) {
+        commandLatencies.computeIfAbsent(commandName, name -> new LatencyHistogram()).record(nanos);
+    }
+
+    /**
+     * Returns the report of all metrics, one per line.
+     * @return report of the metrics
+     */
+    public String report() {
+        long steps = 0;
+        for (LongAdder counter : opcodeSteps) {
+            steps += counter.sum();
+        }
+        long nanos = engineNanos.sum();
+        StringJoiner report = new StringJoiner(System.lineSeparator());
+        report.add(STEPS.formatted(steps));
+        report.add(STEPS_PER_ENGINE_SECOND.formatted(nanos == 0 ? 0 : steps * NANOS_PER_SECOND / nanos));
+        report.add(STOPPED_AIS.formatted(stoppedAIs.sum()));
+        for (AICommandTypes commandType : COMMAND_TYPES) {
+            report.add(OPCODE_STEPS.formatted(commandType, opcodeSteps[commandType.ordinal()].sum()));
+        }
+        for (Map.Entry<String, LatencyHistogram> entry : commandLatencies.entrySet()) {
+            LatencyHistogram latencies = entry.getValue();
+            report.add(COMMAND_COUNT.formatted(entry.getKey(), latencies.getCount()));
+            report.add(COMMAND_LATENCY.formatted(entry.getKey(), MEAN, latencies.getMeanNanos()));
+            report.add(COMMAND_LATENCY.formatted(entry.getKey(), P50, latencies.getQuantileNanos(MEDIAN)));
+            report.add(COMMAND_LATENCY.formatted(entry.getKey(), P99, latencies.getQuantileNanos(TAIL)));
+            report.add(COMMAND_LATENCY.formatted(entry.getKey(), MAX, latencies.getMaxNanos()));
+        }
+        return report.toString();
+    }
+}
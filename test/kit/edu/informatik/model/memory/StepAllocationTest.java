@@ -0,0 +1,112 @@
+package kit.edu.informatik.model.memory;
+
+import com.sun.management.ThreadMXBean;
+import kit.edu.informatik.model.AICommandTypes;
+import kit.edu.informatik.model.AIObject;
+import kit.edu.informatik.model.InstantiateCommand;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+/**
+ * This class tests that executing steps with {@link Memory#next(int)} allocates no objects in the default game
+ * configuration, measuring the bytes allocated by the current thread with the {@link ThreadMXBean} over
+ * {@link #MEASURED_STEPS} steps per execution mode. It is run by {@code mvn test} and exits with status 1 on failure.
+ *
+ * @author uqtwh
+ * @version 1.0
+ */
+public final class StepAllocationTest {
+    private static final String[] SYMBOLS = {"*", "[", "]", ">"};
+    private static final String[] AI_SYMBOLS = {"a", "A", "b", "B"};
+    private static final String IMP_NAME = "imp";
+    private static final String DWARF_NAME = "dwarf";
+    private static final int SIZE = 1337;
+    private static final int WARMUP_STEPS = 100;
+    private static final int WARMUP_CALLS = 50_000;
+    private static final int MEASURED_STEPS = 10_000_000;
+    private static final String ALLOCATION_UNSUPPORTED = "the JVM does not measure the allocated bytes of threads.";
+    private static final String GAME_ENDED = "%s: an AI stopped, so the steps were not measured on a running game.";
+    private static final String ALLOCATED = "%s: %d bytes allocated over %d steps.";
+    private static final String FAILED = "FAILED %s";
+
+    /**
+     * Private constructor, not accessible.
+     */
+    private StepAllocationTest() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Main method of the class.
+     * @param args arguments of the command line, which are ignored
+     */
+    public static void main(String[] args) {
+        ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!threadMXBean.isThreadAllocatedMemorySupported()) {
+            fail(ALLOCATION_UNSUPPORTED);
+        }
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+        for (ExecutionMode executionMode : ExecutionMode.values()) {
+            Memory memory = new Memory(SIZE, SYMBOLS, AI_SYMBOLS, executionMode, ArenaType.HEAP);
+            memory.startGame(List.of(createImp(), createDwarf()));
+            // Many short calls, so that the methods called once per call are compiled as well as the step loop
+            for (int i = 0; i < WARMUP_CALLS; i++) {
+                checkRunning(memory.next(WARMUP_STEPS), executionMode);
+            }
+            long threadId = Thread.currentThread().getId();
+            long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+            String stopped = memory.next(MEASURED_STEPS);
+            long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+            checkRunning(stopped, executionMode);
+            String result = ALLOCATED.formatted(executionMode, allocated, MEASURED_STEPS);
+            if (allocated != 0) {
+                fail(result);
+            }
+            System.out.println(result);
+            memory.endGame();
+        }
+    }
+
+    /**
+     * Private helper method, failing the test if an AI stopped during the executed steps.
+     * @param stopped       message about the stopped AIs or {@code null} if no AI stopped
+     * @param executionMode the tested execution mode
+     */
+    private static void checkRunning(String stopped, ExecutionMode executionMode) {
+        if (stopped != null) {
+            fail(GAME_ENDED.formatted(executionMode));
+        }
+    }
+
+    /**
+     * Private helper method, creating an AI which copies its single MOV_R command to the following cell.
+     * @return the AI
+     */
+    private static AIObject createImp() {
+        AIObject imp = new AIObject(IMP_NAME);
+        imp.addCommand(InstantiateCommand.instantiateCommand(AICommandTypes.MOV_R, 0, 1));
+        return imp;
+    }
+
+    /**
+     * Private helper method, creating an AI which loops over an ADD, a MOV_I and a JMP command, bombing every third cell.
+     * @return the AI
+     */
+    private static AIObject createDwarf() {
+        AIObject dwarf = new AIObject(DWARF_NAME);
+        dwarf.addCommand(InstantiateCommand.instantiateCommand(AICommandTypes.ADD, 4, 3));
+        dwarf.addCommand(InstantiateCommand.instantiateCommand(AICommandTypes.MOV_I, 2, 2));
+        dwarf.addCommand(InstantiateCommand.instantiateCommand(AICommandTypes.JMP, -2, 0));
+        return dwarf;
+    }
+
+    /**
+     * Private helper method, printing the reason of a failure and exiting with status 1.
+     * @param reason reason of the failure
+     */
+    private static void fail(String reason) {
+        System.err.println(FAILED.formatted(reason));
+        System.exit(1);
+    }
+}